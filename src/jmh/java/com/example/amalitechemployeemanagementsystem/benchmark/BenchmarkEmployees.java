@@ -0,0 +1,42 @@
+package com.example.amalitechemployeemanagementsystem.benchmark;
+
+import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.IntEmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.demo.SyntheticEmployees;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loaded databases for the benchmarks, filled with {@link SyntheticEmployees}
+ */
+final class BenchmarkEmployees {
+    static final String[] DEPARTMENTS = SyntheticEmployees.departments();
+
+    private BenchmarkEmployees() {
+    }
+
+    static List<Employee<Integer>> generate(int count, long seed) {
+        return SyntheticEmployees.generate(count, seed);
+    }
+
+    /**
+     * Creates a database of the given kind loaded with generated employees
+     * @param store "trie" for the default store or "int" for the primitive-keyed one
+     * @param size The number of employees
+     * @return The loaded database
+     */
+    static EmployeeDatabase<Integer> database(String store, int size) {
+        // Per-write INFO events would otherwise be measured along with the database
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.WARNING);
+        EmployeeDatabase<Integer> database = switch (store) {
+            case "trie" -> new EmployeeDatabase<>();
+            case "int" -> new IntEmployeeDatabase();
+            default -> throw new IllegalArgumentException("Unknown store: " + store);
+        };
+        database.addEmployees(generate(size, 42));
+        return database;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.amalitechemployeemanagementsystem.benchmark;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.database.*;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations that build a whole database or a whole index, timed one call at a time against a
+ * fresh database.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BulkBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"trie", "int"})
+    String store;
+
+    private List<Employee<Integer>> employees;
+    private Path csv;
+
+    @State(Scope.Benchmark)
+    public static class EmptyDatabase {
+        EmployeeDatabase<Integer> database;
+
+        @Setup(Level.Invocation)
+        public void setUp(BulkBenchmark benchmark) {
+            database = BenchmarkEmployees.database(benchmark.store, 0);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LoadedDatabase {
+        EmployeeDatabase<Integer> database;
+
+        @Setup(Level.Invocation)
+        public void setUp(BulkBenchmark benchmark) {
+            database = BenchmarkEmployees.database(benchmark.store, benchmark.size);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        employees = BenchmarkEmployees.generate(size, 42);
+        csv = Files.createTempFile("employees", ".csv");
+        try (EmployeeDatabase<Integer> source = BenchmarkEmployees.database(store, size)) {
+            source.exportEmployees(csv, ExportFormat.CSV);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+    }
+
+    @Benchmark
+    public BulkLoadResult addEmployees(EmptyDatabase empty) {
+        return empty.database.addEmployees(employees);
+    }
+
+    @Benchmark
+    public BulkLoadResult loadEmployees(EmptyDatabase empty) throws IOException {
+        return empty.database.loadEmployees(csv, Integer::valueOf);
+    }
+
+    @Benchmark
+    public int addEmployeesOneByOne(EmptyDatabase empty) throws InvalidSalaryException, InvalidDepartmentException {
+        for (Employee<Integer> employee : employees) {
+            empty.database.addEmployee(employee);
+        }
+        return empty.database.getEmployeeCount();
+    }
+
+    @Benchmark
+    public void enableLeaderboard(LoadedDatabase loaded) {
+        loaded.database.enableLeaderboard(Leaderboard.EXPERIENCE);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortBySalaryFirstCall(LoadedDatabase loaded) {
+        return loaded.database.sortBySalary();
+    }
+}
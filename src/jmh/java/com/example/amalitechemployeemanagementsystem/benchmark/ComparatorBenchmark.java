@@ -0,0 +1,70 @@
+package com.example.amalitechemployeemanagementsystem.benchmark;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeePerformanceComparator;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeSalaryComparator;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeValidator;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The comparators and the validator on their own: sorting a copy of the employees, and
+ * validating one employee at a time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ComparatorBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private List<Employee<Integer>> employees;
+    private final Comparator<Employee<Integer>> bySalary = new EmployeeSalaryComparator<>();
+    private final Comparator<Employee<Integer>> byPerformance = new EmployeePerformanceComparator<>();
+    private final Set<String> departments = Set.of(BenchmarkEmployees.DEPARTMENTS);
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = BenchmarkEmployees.generate(size, 42);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortWithSalaryComparator() {
+        List<Employee<Integer>> copy = new ArrayList<>(employees);
+        copy.sort(bySalary);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortWithPerformanceComparator() {
+        List<Employee<Integer>> copy = new ArrayList<>(employees);
+        copy.sort(byPerformance);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByNaturalOrder() {
+        List<Employee<Integer>> copy = new ArrayList<>(employees);
+        copy.sort(Comparator.naturalOrder());
+        return copy;
+    }
+
+    @Benchmark
+    public Employee<Integer> validateEmployee() throws InvalidSalaryException, InvalidDepartmentException {
+        next = (next + 1) % size;
+        Employee<Integer> employee = employees.get(next);
+        EmployeeValidator.validateEmployee(employee, departments);
+        return employee;
+    }
+}
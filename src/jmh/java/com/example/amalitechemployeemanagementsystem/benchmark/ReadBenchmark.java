@@ -0,0 +1,295 @@
+package com.example.amalitechemployeemanagementsystem.benchmark;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeSalaryComparator;
+import com.example.amalitechemployeemanagementsystem.database.*;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only {@link EmployeeDatabase} operations against a loaded database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ReadBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"trie", "int"})
+    String store;
+
+    @Param({"false"})
+    boolean metrics;
+
+    private EmployeeDatabase<Integer> database;
+    private EmployeeQuery<Integer> query;
+    private String salaryCursor;
+    private String idCursor;
+    private Path exportFile;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        database = BenchmarkEmployees.database(store, size);
+        database.enableLeaderboard(Leaderboard.PERFORMANCE_RATING);
+        database.getMetrics().setEnabled(metrics);
+        query = EmployeeQuery.<Integer>builder().department("Finance").minRating(4.0).active(true)
+                .orderBy(new EmployeeSalaryComparator<>()).limit(20).build();
+        salaryCursor = database.sortBySalary(100, null).nextCursor();
+        idCursor = database.getAllEmployees(100, null).nextCursor();
+        exportFile = Files.createTempFile("employees", ".csv");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+        database.close();
+    }
+
+    // Spreads point lookups over the whole ID range
+    private int nextId() {
+        next = (next + 7919) % size;
+        return next;
+    }
+
+    @Benchmark
+    public Employee<Integer> getEmployee() throws EmployeeNotFoundException {
+        return database.getEmployee(nextId());
+    }
+
+    @Benchmark
+    public int getEmployeeCount() {
+        return database.getEmployeeCount();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getAllEmployees() {
+        return database.getAllEmployees();
+    }
+
+    @Benchmark
+    public Page<Integer> getAllEmployeesPage() {
+        return database.getAllEmployees(100, idCursor);
+    }
+
+    @Benchmark
+    public void getEmployeeIterator(Blackhole blackhole) {
+        Iterator<Employee<Integer>> iterator = database.getEmployeeIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public EmployeeSnapshot<Integer> snapshot() {
+        return database.snapshot();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> searchByDepartment() throws InvalidDepartmentException {
+        return database.searchByDepartment("Legal");
+    }
+
+    @Benchmark
+    public Page<Integer> searchByDepartmentPage() throws InvalidDepartmentException {
+        return database.searchByDepartment("Engineering", 100, null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> searchByName() {
+        return database.searchByName("mensah");
+    }
+
+    @Benchmark
+    public Page<Integer> searchByNamePage() {
+        return database.searchByName("mensah", 100, null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterByMinimumRating() {
+        return database.filterByMinimumRating(4.8);
+    }
+
+    @Benchmark
+    public Page<Integer> filterByMinimumRatingPage() {
+        return database.filterByMinimumRating(4.8, 100, null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterBySalaryRange() throws InvalidSalaryException {
+        return database.filterBySalaryRange(60000, 61000);
+    }
+
+    @Benchmark
+    public Page<Integer> filterBySalaryRangePage() throws InvalidSalaryException {
+        return database.filterBySalaryRange(60000, 61000, 100, null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterEmployees() {
+        return database.filterEmployees(employee -> employee.getYearsOfExperience() > 30);
+    }
+
+    @Benchmark
+    public Page<Integer> filterEmployeesPage() {
+        return database.filterEmployees(employee -> employee.getYearsOfExperience() > 30, 100, null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> query() {
+        return database.query(query);
+    }
+
+    @Benchmark
+    public QueryPlan explain() {
+        return database.explain(query);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortBySalary() {
+        return database.sortBySalary();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByPerformance() {
+        return database.sortByPerformance();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByExperience() {
+        return database.sortByExperience();
+    }
+
+    @Benchmark
+    public Page<Integer> sortBySalaryPage() {
+        return database.sortBySalary(100, salaryCursor);
+    }
+
+    @Benchmark
+    public Page<Integer> sortByPerformancePage() {
+        return database.sortByPerformance(100, null);
+    }
+
+    @Benchmark
+    public Page<Integer> sortByExperiencePage() {
+        return database.sortByExperience(100, null);
+    }
+
+    @Benchmark
+    public long streamAllEmployeesParallel() {
+        return database.streamAllEmployees().parallel().filter(Employee::isActive).count();
+    }
+
+    @Benchmark
+    public long streamByDepartment() throws InvalidDepartmentException {
+        return database.streamByDepartment("Legal").filter(Employee::isActive).count();
+    }
+
+    @Benchmark
+    public double streamBySalaryRange() throws InvalidSalaryException {
+        return database.streamBySalaryRange(60000, 61000).mapToDouble(Employee::getSalary).sum();
+    }
+
+    @Benchmark
+    public long streamByMinimumRating() {
+        return database.streamByMinimumRating(4.8).count();
+    }
+
+    @Benchmark
+    public Employee<Integer> streamEmployeesFindFirst() {
+        return database.streamEmployees(employee -> employee.getYearsOfExperience() > 30).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public Employee<Integer> streamBySalaryFirst() {
+        return database.streamBySalary().findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public Employee<Integer> streamByPerformanceFirst() {
+        return database.streamByPerformance().findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public Employee<Integer> streamByExperienceFirst() {
+        return database.streamByExperience().findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getTopPaidEmployees() {
+        return database.getTopPaidEmployees(10);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> topK() {
+        return database.topK(10, new EmployeeSalaryComparator<>());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getLeaderboard() {
+        return database.getLeaderboard(Leaderboard.PERFORMANCE_RATING, 10);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getLeaderboardByScan() {
+        return database.getLeaderboard(Leaderboard.EXPERIENCE, 10);
+    }
+
+    @Benchmark
+    public double getAverageSalaryByDepartment() throws InvalidDepartmentException {
+        return database.getAverageSalaryByDepartment("Engineering");
+    }
+
+    @Benchmark
+    public DepartmentStats getDepartmentStats() throws InvalidDepartmentException {
+        return database.getDepartmentStats("Engineering");
+    }
+
+    @Benchmark
+    public List<DepartmentStats> getAllDepartmentStats() {
+        return database.getAllDepartmentStats();
+    }
+
+    @Benchmark
+    public Map<String, GroupResult> groupBy() {
+        return database.groupBy(Employee::getDepartment, Aggregation.count("count"),
+                Aggregation.avg("salary", Employee::getSalary),
+                Aggregation.percentile("p90", Employee::getSalary, 0.9));
+    }
+
+    @Benchmark
+    public Set<String> getAllDepartments() {
+        return database.getAllDepartments();
+    }
+
+    @Benchmark
+    public long getVersion() {
+        return database.getVersion();
+    }
+
+    @Benchmark
+    public long exportEmployeesCsv() throws IOException {
+        return database.exportEmployees(exportFile, ExportFormat.CSV);
+    }
+
+    @Benchmark
+    public long exportEmployeesJsonLines() throws IOException {
+        return database.exportEmployees(exportFile, ExportFormat.JSON_LINES);
+    }
+}
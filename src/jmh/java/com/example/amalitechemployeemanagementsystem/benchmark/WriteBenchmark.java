@@ -0,0 +1,95 @@
+package com.example.amalitechemployeemanagementsystem.benchmark;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.EmployeePatch;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-employee writes against a loaded database. Each write alternates between two values so
+ * that it always changes the employee, and adds are paired with removals to keep the size fixed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"trie", "int"})
+    String store;
+
+    @Param({"false"})
+    boolean metrics;
+
+    private EmployeeDatabase<Integer> database;
+    private Employee<Integer> extra;
+    private int next;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkEmployees.database(store, size);
+        database.getMetrics().setEnabled(metrics);
+        extra = new Employee<>(size, "Extra Employee", "Engineering", 90000, 4.0, 5, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        database.close();
+    }
+
+    private int nextId() {
+        next = (next + 7919) % size;
+        return next;
+    }
+
+    private double nextSalary() {
+        flip = !flip;
+        return flip ? 70000 : 71000;
+    }
+
+    @Benchmark
+    public void addAndRemoveEmployee() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(extra);
+        database.removeEmployee(extra.employeeId());
+    }
+
+    @Benchmark
+    public void updateEmployeeDetails() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.updateEmployeeDetails(nextId(), "salary", nextSalary());
+    }
+
+    @Benchmark
+    public Employee<Integer> applyPatch() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        double salary = nextSalary();
+        return database.applyPatch(nextId(), EmployeePatch.builder()
+                .salary(salary).performanceRating(salary > 70500 ? 4.0 : 3.5).build());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> updateThenSortBySalary() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.updateEmployeeDetails(nextId(), "salary", nextSalary());
+        return database.sortBySalary();
+    }
+
+    @Benchmark
+    public int giveSalaryRaise() {
+        return database.giveSalaryRaise(4.9, 0.001);
+    }
+
+    @Benchmark
+    public void registerDepartment() throws InvalidDepartmentException {
+        database.registerDepartment("Research");
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.amalitechemployeemanagementsystem;
 
+import com.example.amalitechemployeemanagementsystem.controllers.MainController;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -9,12 +10,15 @@ import javafx.stage.Stage;
 import java.io.IOException;
 
 public class EmployeeManagementSystemApp extends Application {
+    private MainController controller;
+
     @Override
     public void start(Stage primaryStage) {
         try {
             // Load the FXML file
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/amalitechemployeemanagementsystem/MainView.fxml"));
             Parent root = loader.load();
+            controller = loader.getController();
 
             // Set up the scene
             Scene scene = new Scene(root, 1000, 600);
@@ -28,6 +32,13 @@ public class EmployeeManagementSystemApp extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
     public static void main(String[] args) {
         launch();
     }
@@ -3,17 +3,43 @@ import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundE
 import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
 import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
 import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.EmployeePatch;
+import com.example.amalitechemployeemanagementsystem.database.IntEmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.Leaderboard;
+import com.example.amalitechemployeemanagementsystem.database.Page;
 import com.example.amalitechemployeemanagementsystem.model.Employee;
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
+import javafx.util.Duration;
 
+import javax.management.JMException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class MainController {
+    private static final Logger logger = Logger.getLogger(MainController.class.getName());
+
+    // Where employees are persisted between runs
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("user.home"), ".amalitech-ems");
+    // Rows fetched per page; more are loaded on demand
+    private static final int PAGE_SIZE = 100;
+    // Typing pause before a live search runs in the background
+    private static final Duration SEARCH_DELAY = Duration.millis(150);
+    // Most cached matches scanned on the FX thread to show a narrowed page at once
+    private static final int PREVIEW_SCAN_LIMIT = 20_000;
 
     @FXML
     private TableColumn<Employee<Integer>, Integer> idColumn;
@@ -41,9 +67,27 @@ public class MainController {
     @FXML
     private ComboBox<String> sortComboBox;
 
+    @FXML
+    private Button loadMoreButton;
+
     private EmployeeDatabase<Integer> database;
     private ObservableList<Employee<Integer>> employeeList;
     private int nextEmployeeId = 1;
+    // The query behind the rows on screen, and where its next page starts
+    private PageLoader currentQuery;
+    private String nextCursor;
+    // Queries run on virtual threads; only the latest one may publish its rows
+    private final ExecutorService queryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Task<?> pendingQuery;
+    // The last complete live search, reused while the query only grows; cleared on every write
+    private SearchMatches lastMatches;
+    private final PauseTransition nameSearchDelay = new PauseTransition(SEARCH_DELAY);
+    private final PauseTransition deptSearchDelay = new PauseTransition(SEARCH_DELAY);
+
+    // Fetches one page of a query, starting after the given cursor
+    private interface PageLoader {
+        Page<Integer> load(String cursor) throws InvalidDepartmentException, InvalidSalaryException;
+    }
 
     /**
      * Initializes the controller.
@@ -51,15 +95,43 @@ public class MainController {
      */
     @FXML
     private void initialize() throws InvalidDepartmentException, InvalidSalaryException {
-        // Initialize the database and list
-        database = new EmployeeDatabase<>();
+        // Open the persisted database, falling back to an in-memory one
+        try {
+            database = IntEmployeeDatabase.open(DATA_DIRECTORY);
+        } catch (IOException e) {
+            database = new IntEmployeeDatabase();
+            showAlert("Storage Unavailable", "Changes will not be saved: " + e.getMessage());
+        }
+        // Publish the metrics over JMX; they are recorded once enabled from a JMX console
+        try {
+            database.getMetrics().register("main");
+        } catch (JMException e) {
+            logger.log(Level.WARNING, "Could not publish database metrics", e);
+        }
+        for (Employee<Integer> employee : database.snapshot()) {
+            nextEmployeeId = Math.max(nextEmployeeId, employee.employeeId() + 1);
+        }
         employeeList = FXCollections.observableArrayList();
         employeeTableView.setItems(employeeList);
 
         // Initialize the sort combo box
-        sortComboBox.getItems().addAll("By Experience", "By Salary", "By Performance");
+        sortComboBox.getItems().addAll("By Experience", "By Salary", "By Performance",
+                "Top 10 Paid", "Top 10 Performers", "Top 10 Experienced");
+        database.enableLeaderboard(Leaderboard.PERFORMANCE_RATING);
+        database.enableLeaderboard(Leaderboard.EXPERIENCE);
         sortComboBox.setValue("By Experience");
 
+        // Re-filter while the slider is dragged; each new position supersedes the last
+        ratingSlider.valueProperty().addListener((observable, oldValue, newValue) -> filterByRating());
+
+        // Search as the user types once they pause
+        nameSearchDelay.setOnFinished(event -> searchByName());
+        deptSearchDelay.setOnFinished(event -> searchByDepartment());
+        searchNameField.textProperty().addListener((observable, oldValue, newValue) ->
+                liveSearch(SearchField.NAME, newValue, nameSearchDelay));
+        searchDeptField.textProperty().addListener((observable, oldValue, newValue) ->
+                liveSearch(SearchField.DEPARTMENT, newValue, deptSearchDelay));
+
         idColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleObjectProperty<>(cellData.getValue().employeeId()));
         nameColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getName()));
         deptColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getDepartment()));
@@ -69,8 +141,10 @@ public class MainController {
         activeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleObjectProperty<>(cellData.getValue().isActive()));
 
 
-        // Add sample data
-        addSampleData();
+        // Add sample data on first run only
+        if (database.getEmployeeCount() == 0) {
+            addSampleData();
+        }
 
         // Update the list view
         updateEmployeeList();
@@ -158,14 +232,8 @@ public class MainController {
             if (result.isPresent() && result.get() == ButtonType.OK) {
                 Employee<Integer> updatedEmployee = controller.getEmployee(selectedEmployee.employeeId());
                 if (updatedEmployee != null) {
-                    // Update all fields
-                    Integer id = selectedEmployee.employeeId();
-                    database.updateEmployeeDetails(id, "name", updatedEmployee.getName());
-                    database.updateEmployeeDetails(id, "department", updatedEmployee.getDepartment());
-                    database.updateEmployeeDetails(id, "salary", updatedEmployee.getSalary());
-                    database.updateEmployeeDetails(id, "performanceRating", updatedEmployee.getPerformanceRating());
-                    database.updateEmployeeDetails(id, "yearsOfExperience", updatedEmployee.getYearsOfExperience());
-                    database.updateEmployeeDetails(id, "isActive", updatedEmployee.isActive());
+                    // Update all fields in one atomic write
+                    database.applyPatch(selectedEmployee.employeeId(), EmployeePatch.of(updatedEmployee));
 
                     updateEmployeeList();
                 }
@@ -181,24 +249,54 @@ public class MainController {
 
     @FXML
     private void searchByName() {
-        String searchText = searchNameField.getText().trim();
-        if (!searchText.isEmpty()) {
-            employeeList.setAll(database.searchByName(searchText));
-        } else {
-            updateEmployeeList();
-        }
+        nameSearchDelay.stop();
+        search(SearchField.NAME, searchNameField.getText());
     }
 
     //Searches employees by department.
 
     @FXML
-    private void searchByDepartment() throws InvalidDepartmentException {
-        String searchText = searchDeptField.getText().trim();
-        if (!searchText.isEmpty()) {
-            employeeList.setAll(database.searchByDepartment(searchText));
-        } else {
+    private void searchByDepartment() {
+        deptSearchDelay.stop();
+        search(SearchField.DEPARTMENT, searchDeptField.getText());
+    }
+
+    //Runs a search in the background, narrowing the last matches when the query extends them.
+
+    private void search(SearchField field, String text) {
+        String query = SearchField.normalise(text);
+        if (query.isEmpty()) {
             updateEmployeeList();
+            return;
+        }
+        SearchMatches previous = lastMatches;
+        runQuery(() -> previous != null && previous.canNarrowTo(field, query)
+                ? previous.narrowTo(query) : field.searchAll(database, query), this::showMatches);
+    }
+
+    //Reacts to a keystroke: shows narrowed rows at once when it can, and searches properly after a pause.
+
+    private void liveSearch(SearchField field, String text, PauseTransition delay) {
+        String query = SearchField.normalise(text);
+        SearchMatches previous = lastMatches;
+        if (!query.isEmpty() && previous != null && previous.canNarrowTo(field, query)) {
+            List<Employee<Integer>> preview = previous.preview(query, PAGE_SIZE, PREVIEW_SCAN_LIMIT);
+            if (preview != null) {
+                cancelPendingQuery();
+                currentQuery = null;
+                nextCursor = null;
+                employeeList.setAll(preview);
+                loadMoreButton.setDisable(true);
+            }
         }
+        delay.playFromStart();
+    }
+
+    //Shows the matches of a completed search and keeps them for narrowing.
+
+    private void showMatches(SearchMatches matches) {
+        lastMatches = matches;
+        showFirstPage(cursor -> matches.page(PAGE_SIZE, cursor), matches.page(PAGE_SIZE, null));
     }
 
     //Filters employees by minimum rating.
@@ -206,7 +304,7 @@ public class MainController {
     @FXML
     private void filterByRating() {
         double rating = ratingSlider.getValue();
-        employeeList.setAll(database.filterByMinimumRating(rating));
+        showPages(cursor -> database.filterByMinimumRating(rating, PAGE_SIZE, cursor));
     }
 
     //Sorts employees based on the selected sort option.
@@ -215,9 +313,12 @@ public class MainController {
     private void sortEmployees() {
         String sortOption = sortComboBox.getValue();
         switch (sortOption) {
-            case "By Experience" -> employeeList.setAll(database.sortByExperience());
-            case "By Salary" -> employeeList.setAll(database.sortBySalary());
-            case "By Performance" -> employeeList.setAll(database.sortByPerformance());
+            case "By Experience" -> showPages(cursor -> database.sortByExperience(PAGE_SIZE, cursor));
+            case "By Salary" -> showPages(cursor -> database.sortBySalary(PAGE_SIZE, cursor));
+            case "By Performance" -> showPages(cursor -> database.sortByPerformance(PAGE_SIZE, cursor));
+            case "Top 10 Paid" -> showRows(() -> database.getLeaderboard(Leaderboard.SALARY, 10));
+            case "Top 10 Performers" -> showRows(() -> database.getLeaderboard(Leaderboard.PERFORMANCE_RATING, 10));
+            case "Top 10 Experienced" -> showRows(() -> database.getLeaderboard(Leaderboard.EXPERIENCE, 10));
         }
     }
 
@@ -231,7 +332,96 @@ public class MainController {
     //Updates the employee list view with all employees.
 
     private void updateEmployeeList() {
-        employeeList.setAll(database.getAllEmployees());
+        lastMatches = null;
+        showPages(cursor -> database.getAllEmployees(PAGE_SIZE, cursor));
+    }
+
+    //Shows the first page of a query and remembers it for "Load More".
+
+    private void showPages(PageLoader query) {
+        runQuery(() -> query.load(null), page -> showFirstPage(query, page));
+    }
+
+    private void showFirstPage(PageLoader query, Page<Integer> page) {
+        currentQuery = query;
+        employeeList.setAll(page.items());
+        nextCursor = page.nextCursor();
+        loadMoreButton.setDisable(!page.hasNext());
+    }
+
+    //Shows a complete result that has no further pages.
+
+    private void showRows(Callable<List<Employee<Integer>>> rows) {
+        runQuery(rows, result -> {
+            currentQuery = null;
+            nextCursor = null;
+            employeeList.setAll(result);
+        });
+    }
+
+    //Appends the next page of the current query.
+
+    @FXML
+    private void loadMoreEmployees() {
+        if (currentQuery == null || nextCursor == null) {
+            return;
+        }
+        PageLoader query = currentQuery;
+        String cursor = nextCursor;
+        runQuery(() -> query.load(cursor), page -> {
+            employeeList.addAll(page.items());
+            nextCursor = page.nextCursor();
+            loadMoreButton.setDisable(!page.hasNext());
+        });
+    }
+
+    //Runs a query on a virtual thread, cancelling the one it supersedes, and publishes its result on the FX thread.
+
+    private <T> void runQuery(Callable<T> query, Consumer<T> publish) {
+        cancelPendingQuery();
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return query.call();
+            }
+        };
+        // A cancelled task never succeeds, but a newer one may already have replaced it
+        task.setOnSucceeded(event -> {
+            if (pendingQuery == task) {
+                pendingQuery = null;
+                publish.accept(task.getValue());
+            }
+        });
+        task.setOnFailed(event -> {
+            if (pendingQuery == task) {
+                pendingQuery = null;
+                loadMoreButton.setDisable(nextCursor == null);
+                showAlert("Error", task.getException().getMessage());
+            }
+        });
+        pendingQuery = task;
+        // "Load More" would page the previous query, so it waits for this one
+        loadMoreButton.setDisable(true);
+        queryExecutor.execute(task);
+    }
+
+    private void cancelPendingQuery() {
+        if (pendingQuery != null) {
+            pendingQuery.cancel();
+            pendingQuery = null;
+        }
+    }
+
+    //Closes the database, flushing it to disk. Called when the application stops.
+
+    public void shutdown() {
+        queryExecutor.shutdownNow();
+        try {
+            database.close();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not save the database on shutdown", e);
+            showAlert("Error", "Changes may not have been saved: " + e.getMessage());
+        }
     }
 
     //Shows an alert dialog.
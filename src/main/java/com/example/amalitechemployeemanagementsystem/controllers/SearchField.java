@@ -0,0 +1,80 @@
+package com.example.amalitechemployeemanagementsystem.controllers;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * The fields the main view searches as the user types. An employee matching a query also matches
+ * every prefix of it, so the results for "sm" contain all the results for "smi".
+ */
+enum SearchField {
+    // Names containing the query, ignoring case
+    NAME {
+        @Override
+        boolean matches(Employee<Integer> employee, String query) {
+            return normalise(employee.getName()).contains(query);
+        }
+
+        @Override
+        List<Employee<Integer>> search(EmployeeDatabase<Integer> database, String query) {
+            return database.searchByName(query);
+        }
+    },
+    // Departments starting with the query, ignoring case
+    DEPARTMENT {
+        @Override
+        boolean matches(Employee<Integer> employee, String query) {
+            return normalise(employee.getDepartment()).startsWith(query);
+        }
+
+        @Override
+        List<Employee<Integer>> search(EmployeeDatabase<Integer> database, String query) throws InvalidDepartmentException {
+            Set<String> departments = new TreeSet<>();
+            for (String department : database.getAllDepartments()) {
+                if (normalise(department).startsWith(query)) {
+                    departments.add(normalise(department));
+                }
+            }
+            List<Employee<Integer>> result = new ArrayList<>();
+            for (String department : departments) {
+                result.addAll(database.searchByDepartment(department));
+            }
+            return result;
+        }
+    };
+
+    /**
+     * @param employee The employee to test
+     * @param query The normalised query
+     * @return Whether the employee matches the query
+     */
+    abstract boolean matches(Employee<Integer> employee, String query);
+
+    // Finds every match in the database, in no particular order
+    abstract List<Employee<Integer>> search(EmployeeDatabase<Integer> database, String query) throws InvalidDepartmentException;
+
+    /**
+     * Finds every employee matching a query
+     * @param database The database to search
+     * @param query The normalised query
+     * @return The matches, in ID order
+     * @throws InvalidDepartmentException If the query is not a valid department search
+     */
+    SearchMatches searchAll(EmployeeDatabase<Integer> database, String query) throws InvalidDepartmentException {
+        List<Employee<Integer>> employees = new ArrayList<>(search(database, query));
+        employees.sort(Comparator.comparing(Employee::employeeId));
+        return new SearchMatches(this, query, employees);
+    }
+
+    static String normalise(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.amalitechemployeemanagementsystem.controllers;
+
+import com.example.amalitechemployeemanagementsystem.database.Page;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The complete result of a live search, kept so that a query extending it ("sm" to "smi") is
+ * answered by filtering these employees instead of searching the whole database again. The
+ * employees are a snapshot; results must be discarded once the database changes.
+ *
+ * @param field The field that was searched
+ * @param query The normalised query
+ * @param employees Every matching employee, in ID order
+ */
+record SearchMatches(SearchField field, String query, List<Employee<Integer>> employees) {
+
+    SearchMatches {
+        employees = List.copyOf(employees);
+    }
+
+    /**
+     * @param field The field of the new search
+     * @param query The normalised new query
+     * @return Whether every match for the new query is among these employees
+     */
+    boolean canNarrowTo(SearchField field, String query) {
+        return this.field == field && query.startsWith(this.query);
+    }
+
+    /**
+     * Filters these matches down to a longer query
+     * @param query The normalised query; {@link #canNarrowTo} must hold for it
+     * @return The matches for the new query
+     */
+    SearchMatches narrowTo(String query) {
+        List<Employee<Integer>> narrowed = new ArrayList<>();
+        for (Employee<Integer> employee : employees) {
+            if (field.matches(employee, query)) {
+                narrowed.add(employee);
+            }
+        }
+        return new SearchMatches(field, query, narrowed);
+    }
+
+    /**
+     * Finds the first page of matches for a longer query while examining at most a given number
+     * of employees, so it can run between two frames
+     * @param query The normalised query; {@link #canNarrowTo} must hold for it
+     * @param pageSize The number of employees wanted
+     * @param scanLimit The most employees to examine
+     * @return The matches found, or null if the limit was reached before a page was filled
+     */
+    List<Employee<Integer>> preview(String query, int pageSize, int scanLimit) {
+        List<Employee<Integer>> found = new ArrayList<>(pageSize);
+        int scanned = Math.min(employees.size(), scanLimit);
+        for (int i = 0; i < scanned && found.size() < pageSize; i++) {
+            if (field.matches(employees.get(i), query)) {
+                found.add(employees.get(i));
+            }
+        }
+        return found.size() < pageSize && scanned < employees.size() ? null : found;
+    }
+
+    /**
+     * Gets one page of these matches
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws IllegalArgumentException If the page size is not positive or the cursor is malformed
+     */
+    Page<Integer> page(int pageSize, String cursor) throws IllegalArgumentException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int start = cursor == null ? 0 : Integer.parseInt(cursor);
+        if (start < 0 || start > employees.size()) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        int end = Math.min(start + pageSize, employees.size());
+        return new Page<>(employees.subList(start, end), end < employees.size() ? Integer.toString(end) : null);
+    }
+}
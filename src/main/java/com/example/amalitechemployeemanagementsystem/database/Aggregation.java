@@ -0,0 +1,90 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One aggregate computed per group by {@link EmployeeDatabase#groupBy}. Values are read from each
+ * employee with a field function such as {@code Employee::getSalary}.
+ */
+public final class Aggregation {
+    enum Kind { COUNT, SUM, AVG, MIN, MAX, PERCENTILE }
+
+    private final String name;
+    private final Kind kind;
+    private final ToDoubleFunction<Employee<?>> field;
+    private final double percentile;
+
+    private Aggregation(String name, Kind kind, ToDoubleFunction<Employee<?>> field, double percentile) {
+        this.name = Objects.requireNonNull(name, "Aggregation name cannot be null");
+        this.kind = kind;
+        this.field = field;
+        this.percentile = percentile;
+    }
+
+    /**
+     * @param name The name the result is reported under
+     * @return An aggregation counting the employees in each group
+     */
+    public static Aggregation count(String name) {
+        return new Aggregation(name, Kind.COUNT, null, 0);
+    }
+
+    public static Aggregation sum(String name, ToDoubleFunction<Employee<?>> field) {
+        return new Aggregation(name, Kind.SUM, requireField(field), 0);
+    }
+
+    public static Aggregation avg(String name, ToDoubleFunction<Employee<?>> field) {
+        return new Aggregation(name, Kind.AVG, requireField(field), 0);
+    }
+
+    public static Aggregation min(String name, ToDoubleFunction<Employee<?>> field) {
+        return new Aggregation(name, Kind.MIN, requireField(field), 0);
+    }
+
+    public static Aggregation max(String name, ToDoubleFunction<Employee<?>> field) {
+        return new Aggregation(name, Kind.MAX, requireField(field), 0);
+    }
+
+    /**
+     * Creates an exact percentile, interpolating linearly between the closest ranks. It keeps
+     * every value of the group until the groups are finished, unlike the other aggregations.
+     * @param name The name the result is reported under
+     * @param field Reads the value from an employee
+     * @param percentile The percentile, between 0 and 100
+     * @return The aggregation
+     */
+    public static Aggregation percentile(String name, ToDoubleFunction<Employee<?>> field, double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        return new Aggregation(name, Kind.PERCENTILE, requireField(field), percentile);
+    }
+
+    private static ToDoubleFunction<Employee<?>> requireField(ToDoubleFunction<Employee<?>> field) {
+        return Objects.requireNonNull(field, "Aggregation field cannot be null");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    double valueOf(Employee<?> employee) {
+        return field.applyAsDouble(employee);
+    }
+
+    double percentile() {
+        return percentile;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.PERCENTILE ? name + "=p" + percentile : name + "=" + kind.name().toLowerCase();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.logging.Level;
+
+/**
+ * Kinds of events an {@link EmployeeDatabase} records in its {@link AuditLog}, each with the
+ * level it is recorded at.
+ */
+public enum AuditEvent {
+    EMPLOYEE_ADDED(Level.INFO),
+    EMPLOYEE_UPDATED(Level.INFO),
+    EMPLOYEE_REMOVED(Level.INFO),
+    DUPLICATE_SKIPPED(Level.WARNING),
+    EMPLOYEE_NOT_FOUND(Level.WARNING),
+    INVALID_FIELD_VALUE(Level.WARNING),
+    BULK_LOADED(Level.INFO),
+    SALARY_RAISED(Level.INFO),
+    LEADERBOARD_ENABLED(Level.INFO),
+    EXPORTED(Level.INFO),
+    DEPARTMENT_REGISTERED(Level.INFO),
+    OPERATION_FAILED(Level.SEVERE);
+
+    private final Level level;
+
+    AuditEvent(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * @return The level the event is recorded at
+     */
+    public Level level() {
+        return level;
+    }
+}
@@ -0,0 +1,356 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous audit trail for an {@link EmployeeDatabase}.
+ * <p>
+ * Events are written into a ring of pre-allocated slots and drained by a background thread, so a
+ * writer pays for a level check, a sequence claim and a few field stores: nothing is formatted or
+ * allocated on the calling thread. Events below the log's level are dropped before a slot is
+ * claimed. When the ring is full, writers wait for the drainer instead of losing events: they
+ * spin briefly, then park with a growing timeout until the drainer wakes them as it frees slots.
+ * <p>
+ * Events are formatted and written on the drainer thread, and the sink is flushed whenever the
+ * ring runs empty, so a burst of writes costs one flush. A database without an attached log
+ * forwards its events to {@code java.util.logging} through a shared log of this kind.
+ */
+public final class AuditLog implements Closeable {
+    private static final Logger logger = Logger.getLogger(AuditLog.class.getName());
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+    // A writer facing a full ring spins this many times before parking
+    private static final int FULL_SPINS = 64;
+    private static final long MIN_FULL_PARK_NANOS = 1_000L;
+    private static final long MAX_FULL_PARK_NANOS = 1_000_000L;
+    // The drainer wakes parked writers after freeing this many slots, and whenever the ring runs empty
+    private static final int WAKE_BATCH = 64;
+
+    private final Slot[] ring;
+    private final int mask;
+    private final Sink sink;
+    private final EmployeeDatabase<?> database;
+    private final AtomicLong claimed = new AtomicLong();
+    private final Thread drainer;
+    // Writers parked until a slot is freed
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    // Next sequence the drainer will read; every earlier slot is free again
+    private volatile long consumed;
+    private volatile boolean sleeping;
+    private volatile boolean running = true;
+
+    // A slot is published once its sequence is stored; the drainer clears its references after use
+    private static final class Slot {
+        volatile long sequence = -1;
+        AuditEvent event;
+        Object subject;
+        Object detail;
+        long count;
+        Throwable error;
+        long timeMillis;
+    }
+
+    // Where formatted events end up; only ever called from the drainer thread
+    private interface Sink {
+        boolean accepts(Level level);
+
+        void write(Slot slot, StringBuilder line) throws IOException;
+
+        void flush() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private AuditLog(Sink sink, EmployeeDatabase<?> database, int capacity) {
+        this.ring = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.sink = sink;
+        this.database = database;
+        this.drainer = new Thread(this::drain, "employee-audit");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Starts recording a database's events to a file
+     * @param file The file to append events to; it is created if missing
+     * @param database The database whose events to record
+     * @param level The lowest level to record
+     * @return The log, attached to the database
+     * @throws IOException If the file cannot be opened
+     */
+    public static AuditLog open(Path file, EmployeeDatabase<?> database, Level level) throws IOException {
+        if (file == null || database == null || level == null) {
+            throw new IllegalArgumentException("File, database and level cannot be null");
+        }
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        AuditLog log = new AuditLog(new FileSink(writer, level), database, DEFAULT_CAPACITY);
+        database.attachAuditLog(log);
+        return log;
+    }
+
+    /**
+     * Creates a log that hands events to a logger from its background thread
+     * @param target The logger; its level decides which events are recorded
+     * @return A log not attached to any database
+     */
+    static AuditLog forwardingTo(Logger target) {
+        return forwardingTo(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a log that hands events to a logger from its background thread
+     * @param target The logger; its level decides which events are recorded
+     * @param capacity The number of events the ring holds, a power of two
+     * @return A log not attached to any database
+     */
+    static AuditLog forwardingTo(Logger target, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        return new AuditLog(new LoggerSink(target), null, capacity);
+    }
+
+    /**
+     * @param event The kind of event
+     * @return Whether events of that kind are recorded
+     */
+    public boolean isEnabled(AuditEvent event) {
+        return sink.accepts(event.level());
+    }
+
+    /**
+     * Queues an event. Arguments are kept by reference and formatted later, so they must not change.
+     * @param event The kind of event
+     * @param subject The employee ID or other object the event is about, or null
+     * @param count A count the event reports, or -1 for none
+     * @param detail Extra detail such as the employee name, or null
+     * @param error The failure being reported, or null
+     */
+    void record(AuditEvent event, Object subject, long count, Object detail, Throwable error) {
+        if (!running || !sink.accepts(event.level())) {
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        if (sequence - consumed >= ring.length && !awaitSlot(sequence)) {
+            return;
+        }
+        Slot slot = ring[(int) sequence & mask];
+        slot.event = event;
+        slot.subject = subject;
+        slot.count = count;
+        slot.detail = detail;
+        slot.error = error;
+        slot.timeMillis = System.currentTimeMillis();
+        slot.sequence = sequence;
+        if (sleeping) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /*
+     * Waits for the drainer to free a claimed slot. A writer registers before its final check and
+     * the drainer reads the waiters after publishing its progress, so one of them always sees the
+     * other; the park timeout only bounds the wait if the drainer is slow to get there.
+     */
+    private boolean awaitSlot(long sequence) {
+        long parkNanos = MIN_FULL_PARK_NANOS;
+        for (int spins = 0; sequence - consumed >= ring.length; spins++) {
+            if (!drainer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            if (spins < FULL_SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            Thread current = Thread.currentThread();
+            waiters.add(current);
+            if (sequence - consumed >= ring.length) {
+                LockSupport.parkNanos(this, parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_FULL_PARK_NANOS);
+            }
+            waiters.remove(current);
+        }
+        return true;
+    }
+
+    private void wakeWaiters() {
+        for (Thread waiter : waiters) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    /**
+     * Writes every queued event, stops the background thread and detaches from the database
+     * @throws IOException If the sink cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (database != null) {
+            database.attachAuditLog(null);
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        boolean failed = false;
+        boolean unflushed = false;
+        long next = 0;
+        while (true) {
+            Slot slot = ring[(int) next & mask];
+            if (slot.sequence == next) {
+                if (!failed) {
+                    try {
+                        line.setLength(0);
+                        sink.write(slot, line);
+                        unflushed = true;
+                    } catch (IOException | RuntimeException e) {
+                        failed = report(e);
+                    }
+                }
+                slot.subject = null;
+                slot.detail = null;
+                slot.error = null;
+                consumed = ++next;
+                if ((next & (WAKE_BATCH - 1)) == 0 && !waiters.isEmpty()) {
+                    wakeWaiters();
+                }
+                continue;
+            }
+            if (!waiters.isEmpty()) {
+                wakeWaiters();
+            }
+            if (unflushed && !failed) {
+                try {
+                    sink.flush();
+                } catch (IOException e) {
+                    failed = report(e);
+                }
+                unflushed = false;
+            }
+            if (!running && claimed.get() <= next) {
+                break;
+            }
+            sleeping = true;
+            if (slot.sequence != next && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            } else if (slot.sequence != next) {
+                // Closing: a writer has claimed a slot and is about to publish it
+                Thread.onSpinWait();
+            }
+            sleeping = false;
+        }
+        try {
+            sink.close();
+        } catch (IOException e) {
+            report(e);
+        }
+    }
+
+    // Events are still consumed after a failure, so writers never block on a broken sink
+    private static boolean report(Exception e) {
+        logger.log(Level.SEVERE, "Audit log stopped writing events", e);
+        return true;
+    }
+
+    private static void appendEvent(Slot slot, StringBuilder line) {
+        line.append(slot.event.name());
+        if (slot.subject != null) {
+            line.append(" id=").append(slot.subject);
+        }
+        if (slot.count >= 0) {
+            line.append(" count=").append(slot.count);
+        }
+        if (slot.detail != null) {
+            line.append(' ').append(slot.detail);
+        }
+        if (slot.error != null) {
+            line.append(" error=").append(slot.error);
+        }
+    }
+
+    private static final class FileSink implements Sink {
+        private final BufferedWriter writer;
+        private final int threshold;
+
+        FileSink(BufferedWriter writer, Level level) {
+            this.writer = writer;
+            this.threshold = level.intValue();
+        }
+
+        @Override
+        public boolean accepts(Level level) {
+            return level.intValue() >= threshold && threshold != Level.OFF.intValue();
+        }
+
+        @Override
+        public void write(Slot slot, StringBuilder line) throws IOException {
+            line.append(Instant.ofEpochMilli(slot.timeMillis)).append(' ')
+                    .append(slot.event.level().getName()).append(' ');
+            appendEvent(slot, line);
+            line.append('\n');
+            if (slot.error != null) {
+                for (StackTraceElement frame : slot.error.getStackTrace()) {
+                    line.append("\tat ").append(frame).append('\n');
+                }
+            }
+            writer.append(line);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private record LoggerSink(Logger target) implements Sink {
+        @Override
+        public boolean accepts(Level level) {
+            return target.isLoggable(level);
+        }
+
+        @Override
+        public void write(Slot slot, StringBuilder line) {
+            appendEvent(slot, line);
+            target.log(slot.event.level(), line.toString(), slot.error);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
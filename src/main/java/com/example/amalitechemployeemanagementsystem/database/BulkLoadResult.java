@@ -0,0 +1,24 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk load: how many employees were added and which rows were rejected.
+ *
+ * @param loaded The number of employees added
+ * @param rejected The rejected rows, in input order
+ */
+public record BulkLoadResult(int loaded, List<Rejection> rejected) {
+
+    /**
+     * A row that was not loaded
+     * @param row The 1-based position of the row in the input; for files, its line number
+     * @param reason Why the row was rejected
+     */
+    public record Rejection(long row, String reason) {
+    }
+
+    public BulkLoadResult {
+        rejected = List.copyOf(rejected);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded ring of the most recent writes, keyed by database version, so derived views can catch
+ * up by replaying what changed instead of rebuilding. Entries are overwritten once the ring wraps;
+ * a reader that finds a version missing must rebuild from a snapshot.
+ *
+ * @param <T> Type of the employee ID
+ */
+final class ChangeLog<T> {
+    static final int CAPACITY = 1024;
+
+    /**
+     * One write: {@code previous} is null for an add, {@code current} is null for a removal, and
+     * both are null when the change cannot be replayed, such as a bulk load
+     */
+    record Change<T>(long version, Employee<T> previous, Employee<T> current) {
+        boolean replayable() {
+            return previous != null || current != null;
+        }
+    }
+
+    private final AtomicReferenceArray<Change<T>> changes = new AtomicReferenceArray<>(CAPACITY);
+
+    void record(long version, Employee<T> previous, Employee<T> current) {
+        changes.set((int) (version & (CAPACITY - 1)), new Change<>(version, previous, current));
+    }
+
+    /**
+     * Gets the write that produced a version
+     * @param version The version to look up
+     * @return The change, or null if it has been overwritten or is not recorded yet
+     */
+    Change<T> get(long version) {
+        Change<T> change = changes.get((int) (version & (CAPACITY - 1)));
+        return change != null && change.version() == version ? change : null;
+    }
+}
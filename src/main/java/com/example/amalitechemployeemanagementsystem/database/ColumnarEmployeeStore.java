@@ -0,0 +1,398 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeValidator;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Struct-of-arrays employee store for scan-heavy numeric workloads.
+ * Each field lives in its own primitive column indexed by a dense row number, so filters and
+ * aggregates run as tight loops over contiguous arrays; only matching rows are materialised
+ * as {@link Employee} objects. Removing an employee moves the last row into its slot.
+ *
+ * @param <T> Type of the employee ID
+ */
+public class ColumnarEmployeeStore<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Logger logger = Logger.getLogger(ColumnarEmployeeStore.class.getName());
+
+    private final Map<T, Integer> rows = new HashMap<>();
+    // Case-folded department name to the code stored in the department column
+    private final Map<String, Integer> departmentCodes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Object[] ids;
+    private String[] names;
+    private String[] departments;
+    private int[] departmentColumn;
+    private double[] salaries;
+    private double[] ratings;
+    private int[] experience;
+    private final BitSet active = new BitSet();
+    private int size;
+
+    public ColumnarEmployeeStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a store with room for a number of employees before the columns grow
+     * @param capacity The initial number of rows
+     */
+    public ColumnarEmployeeStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        ids = new Object[capacity];
+        names = new String[capacity];
+        departments = new String[capacity];
+        departmentColumn = new int[capacity];
+        salaries = new double[capacity];
+        ratings = new double[capacity];
+        experience = new int[capacity];
+    }
+
+    /**
+     * Adds a new employee to the store
+     * @param employee The employee to add
+     * @throws InvalidSalaryException If the salary is negative
+     * @throws InvalidDepartmentException If the department is empty
+     */
+    public void addEmployee(Employee<T> employee) throws InvalidSalaryException, InvalidDepartmentException {
+        EmployeeValidator.validateEmployee(employee, Collections.emptySet());
+        lock.writeLock().lock();
+        try {
+            if (rows.containsKey(employee.employeeId())) {
+                logger.warning("Employee with ID " + employee.employeeId() + " already exists. Update skipped.");
+                return;
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            int row = size++;
+            rows.put(employee.employeeId(), row);
+            ids[row] = employee.employeeId();
+            names[row] = employee.getName();
+            setDepartment(row, employee.getDepartment());
+            salaries[row] = employee.getSalary();
+            ratings[row] = employee.getPerformanceRating();
+            experience[row] = employee.getYearsOfExperience();
+            active.set(row, employee.isActive());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an employee from the store
+     * @param employeeId The ID of the employee to remove
+     * @throws EmployeeNotFoundException If no employee with the given ID exists
+     */
+    public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(employeeId);
+            if (row == null) {
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found.");
+            }
+            int last = --size;
+            if (row != last) {
+                moveRow(last, row);
+            }
+            ids[last] = null;
+            names[last] = null;
+            departments[last] = null;
+            active.clear(last);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Updates an employee's details, accepting the same fields as {@link EmployeeDatabase#updateEmployeeDetails}
+     * @param employeeId The ID of the employee to update
+     * @param field The field to update
+     * @param newValue The new value of the field
+     * @throws EmployeeNotFoundException If no employee with the given ID exists
+     * @throws InvalidSalaryException If the new salary is negative
+     * @throws InvalidDepartmentException If the new department is empty
+     */
+    public void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        if (field == null || field.trim().isEmpty()) {
+            throw new IllegalArgumentException("Field name cannot be null or empty");
+        }
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(employeeId);
+            switch (field.toLowerCase()) {
+                case "name" -> {
+                    EmployeeValidator.validateName((String) newValue);
+                    names[row] = (String) newValue;
+                }
+                case "department" -> {
+                    EmployeeValidator.validateDepartment((String) newValue);
+                    setDepartment(row, (String) newValue);
+                }
+                case "salary" -> {
+                    EmployeeValidator.validateSalary((Double) newValue);
+                    salaries[row] = (Double) newValue;
+                }
+                case "performancerating" -> {
+                    EmployeeValidator.validatePerformanceRating((Double) newValue);
+                    ratings[row] = (Double) newValue;
+                }
+                case "yearsofexperience" -> {
+                    EmployeeValidator.validateYearsOfExperience((Integer) newValue);
+                    experience[row] = (Integer) newValue;
+                }
+                case "isactive" -> active.set(row, (Boolean) newValue);
+                default -> throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        } catch (ClassCastException e) {
+            logger.log(Level.WARNING, "Invalid value type for field: " + field, e);
+            throw new IllegalArgumentException("Invalid value type for field: " + field, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets an employee by their ID
+     * @param employeeId The ID of the employee to retrieve
+     * @return A copy of the employee's current row
+     * @throws EmployeeNotFoundException If no employee with the given ID exists
+     */
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            return materialise(rowOf(employeeId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of employees
+     * @return The number of employees
+     */
+    public int getEmployeeCount() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filters employees by minimum performance rating
+     * @param minRating The minimum rating to filter by
+     * @return A list of employees with ratings greater than or equal to the minimum
+     * @throws IllegalArgumentException If the rating is negative
+     */
+    public List<Employee<T>> filterByMinimumRating(double minRating) throws IllegalArgumentException {
+        if (minRating < 0) {
+            throw new IllegalArgumentException("Minimum rating cannot be negative");
+        }
+        lock.readLock().lock();
+        try {
+            int[] matches = new int[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                matches[count] = row;
+                count += ratings[row] >= minRating ? 1 : 0;
+            }
+            return materialise(matches, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filters employees by salary range
+     * @param minSalary The minimum salary
+     * @param maxSalary The maximum salary
+     * @return A list of employees with salaries in the specified range
+     * @throws InvalidSalaryException If minSalary is negative
+     */
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        if (minSalary < 0) {
+            throw new InvalidSalaryException("Minimum salary cannot be negative: " + minSalary);
+        }
+        if (maxSalary < minSalary) {
+            throw new IllegalArgumentException("Maximum salary cannot be less than minimum salary");
+        }
+        lock.readLock().lock();
+        try {
+            int[] matches = new int[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                double salary = salaries[row];
+                matches[count] = row;
+                count += salary >= minSalary && salary <= maxSalary ? 1 : 0;
+            }
+            return materialise(matches, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gives a salary raise to employees with high performance ratings
+     * @param minRating The minimum performance rating required for a raise
+     * @param percentageRaise The percentage salary raise
+     * @return The number of employees who received a raise
+     * @throws IllegalArgumentException If minRating is negative or percentageRaise is negative
+     */
+    public int giveSalaryRaise(double minRating, double percentageRaise) throws IllegalArgumentException {
+        if (minRating < 0) {
+            throw new IllegalArgumentException("Minimum rating cannot be negative");
+        }
+        if (percentageRaise < 0) {
+            throw new IllegalArgumentException("Percentage raise cannot be negative");
+        }
+        double factor = 1 + percentageRaise / 100;
+        lock.writeLock().lock();
+        try {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                boolean eligible = ratings[row] >= minRating;
+                salaries[row] = eligible ? salaries[row] * factor : salaries[row];
+                count += eligible ? 1 : 0;
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates the average salary of employees in a specific department
+     * @param department The department to calculate the average salary for
+     * @return The average salary, or 0 if no employees in the department
+     * @throws InvalidDepartmentException If the department is null or empty
+     */
+    public double getAverageSalaryByDepartment(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            throw new InvalidDepartmentException("Department cannot be null or empty");
+        }
+        lock.readLock().lock();
+        try {
+            Integer code = departmentCodes.get(department.toLowerCase(Locale.ROOT));
+            if (code == null) {
+                return 0;
+            }
+            double sum = 0;
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                boolean member = departmentColumn[row] == code;
+                sum += member ? salaries[row] : 0;
+                count += member ? 1 : 0;
+            }
+            return count == 0 ? 0 : sum / count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calculates the total salary paid to all employees
+     * @return The sum of all salaries
+     */
+    public double getTotalPayroll() {
+        lock.readLock().lock();
+        try {
+            double sum = 0;
+            for (int row = 0; row < size; row++) {
+                sum += salaries[row];
+            }
+            return sum;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the active employees
+     * @return The number of active employees
+     */
+    public int getActiveCount() {
+        lock.readLock().lock();
+        try {
+            return active.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int rowOf(T employeeId) throws EmployeeNotFoundException {
+        Integer row = rows.get(employeeId);
+        if (row == null) {
+            throw new EmployeeNotFoundException("No employee found with ID: " + employeeId);
+        }
+        return row;
+    }
+
+    private void setDepartment(int row, String department) {
+        departments[row] = department;
+        departmentColumn[row] = departmentCodes.computeIfAbsent(department.toLowerCase(Locale.ROOT),
+                key -> departmentCodes.size());
+    }
+
+    private void moveRow(int from, int to) {
+        @SuppressWarnings("unchecked")
+        T movedId = (T) ids[from];
+        ids[to] = movedId;
+        names[to] = names[from];
+        departments[to] = departments[from];
+        departmentColumn[to] = departmentColumn[from];
+        salaries[to] = salaries[from];
+        ratings[to] = ratings[from];
+        experience[to] = experience[from];
+        active.set(to, active.get(from));
+        rows.put(movedId, to);
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        departmentColumn = Arrays.copyOf(departmentColumn, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+        experience = Arrays.copyOf(experience, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Employee<T> materialise(int row) {
+        return new Employee<>((T) ids[row], names[row], departments[row], salaries[row],
+                ratings[row], experience[row], active.get(row));
+    }
+
+    private List<Employee<T>> materialise(int[] rowNumbers, int count) {
+        List<Employee<T>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(materialise(rowNumbers[i]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call counts, error counts and latency histograms for the operations of one
+ * {@link EmployeeDatabase}, published as an MXBean.
+ * <p>
+ * Measuring is off until enabled. While it is off, an instrumented call costs one volatile read:
+ * the clock is not read and nothing is recorded. While it is on, a call reads the clock twice and
+ * records into a {@link LatencyHistogram}, which never allocates.
+ */
+public final class DatabaseMetrics implements DatabaseMetricsMXBean {
+    // Start time handed out while measuring is off
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private static final DatabaseOperation[] OPERATIONS = DatabaseOperation.values();
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder[] errors = new LongAdder[OPERATIONS.length];
+    private volatile boolean enabled;
+    private ObjectName registeredAs;
+
+    DatabaseMetrics() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            errors[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts timing a call
+     * @return The start time, or {@link #DISABLED} if measuring is off
+     */
+    long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Finishes timing a call, whether it succeeded or not
+     * @param operation The operation called
+     * @param started The value {@link #start()} returned
+     */
+    void stop(DatabaseOperation operation, long started) {
+        if (started != DISABLED) {
+            latencies[operation.ordinal()].record(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Counts a call that threw
+     * @param operation The operation called
+     * @param started The value {@link #start()} returned
+     */
+    void error(DatabaseOperation operation, long started) {
+        if (started != DISABLED) {
+            errors[operation.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Map<String, OperationStatistics> getOperations() {
+        Map<String, OperationStatistics> operations = new LinkedHashMap<>();
+        for (DatabaseOperation operation : OPERATIONS) {
+            LatencyHistogram latency = latencies[operation.ordinal()];
+            if (latency.count() > 0) {
+                operations.put(operation.name(), new OperationStatistics(latency.count(),
+                        errors[operation.ordinal()].sum(), latency.mean() / 1000,
+                        latency.percentile(0.5) / 1000.0, latency.percentile(0.99) / 1000.0,
+                        latency.percentile(0.999) / 1000.0, latency.max() / 1000.0));
+            }
+        }
+        return operations;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            latencies[i].reset();
+            errors[i].reset();
+        }
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server
+     * @param name The name distinguishing this database from others in the same JVM
+     * @throws JMException If an MBean with the same name is already registered
+     */
+    public synchronized void register(String name) throws JMException {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+        unregister();
+        ObjectName objectName = new ObjectName("com.example.amalitechemployeemanagementsystem:type=EmployeeDatabase,name="
+                + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        registeredAs = objectName;
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if they were published
+     */
+    public synchronized void unregister() {
+        if (registeredAs == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(registeredAs);
+        } catch (InstanceNotFoundException e) {
+            // Already removed through the server
+        } catch (MBeanRegistrationException e) {
+            throw new IllegalStateException("Cannot unregister " + registeredAs, e);
+        } finally {
+            registeredAs = null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link DatabaseMetrics}
+ */
+public interface DatabaseMetricsMXBean {
+
+    /**
+     * @return Whether calls are currently being measured
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops measuring calls. While stopped, the database skips the clock entirely.
+     * @param enabled Whether to measure calls
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return Statistics of every operation called at least once, keyed by operation name
+     */
+    Map<String, OperationStatistics> getOperations();
+
+    /**
+     * Clears every counter and histogram
+     */
+    void reset();
+}
@@ -0,0 +1,44 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+/**
+ * The {@link EmployeeDatabase} methods whose calls are measured by {@link DatabaseMetrics}. Paged
+ * variants are measured apart from the list ones they mirror. For the stream methods only opening
+ * the stream is timed, since the caller reads the employees afterwards.
+ */
+enum DatabaseOperation {
+    ADD_EMPLOYEE,
+    BULK_LOAD,
+    REMOVE_EMPLOYEE,
+    UPDATE_EMPLOYEE,
+    GET_EMPLOYEE,
+    SEARCH_BY_DEPARTMENT,
+    SEARCH_BY_NAME,
+    FILTER_BY_MINIMUM_RATING,
+    FILTER_BY_SALARY_RANGE,
+    FILTER_EMPLOYEES,
+    QUERY,
+    SORT_BY_SALARY,
+    SORT_BY_PERFORMANCE,
+    SORT_BY_EXPERIENCE,
+    SALARY_RAISE,
+    TOP_PAID,
+    TOP_K,
+    LEADERBOARD,
+    GET_ALL_EMPLOYEES_PAGE,
+    SEARCH_BY_DEPARTMENT_PAGE,
+    SEARCH_BY_NAME_PAGE,
+    FILTER_BY_MINIMUM_RATING_PAGE,
+    FILTER_BY_SALARY_RANGE_PAGE,
+    FILTER_EMPLOYEES_PAGE,
+    SORT_BY_SALARY_PAGE,
+    SORT_BY_PERFORMANCE_PAGE,
+    SORT_BY_EXPERIENCE_PAGE,
+    STREAM_ALL_EMPLOYEES,
+    STREAM_BY_DEPARTMENT,
+    STREAM_BY_SALARY_RANGE,
+    STREAM_BY_MINIMUM_RATING,
+    STREAM_EMPLOYEES,
+    STREAM_BY_SALARY,
+    STREAM_BY_PERFORMANCE,
+    STREAM_BY_EXPERIENCE
+}
@@ -0,0 +1,91 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case-insensitive department to employees index.
+ * Looking up a department costs the size of the result instead of a scan over every employee.
+ *
+ * @param <T> Type of the employee ID
+ */
+class DepartmentIndex<T> implements EmployeeIndex<T> {
+    private final Map<String, Map<T, Employee<T>>> byDepartment = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(Employee<T> employee) {
+        byDepartment.compute(key(employee.getDepartment()), (key, members) -> {
+            Map<T, Employee<T>> bucket = members == null ? new ConcurrentHashMap<>() : members;
+            bucket.put(employee.employeeId(), employee);
+            return bucket;
+        });
+    }
+
+    // One map update per department instead of one per employee
+    @Override
+    public void addAll(Collection<Employee<T>> employees) {
+        Map<String, Map<T, Employee<T>>> batch = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            batch.computeIfAbsent(key(employee.getDepartment()), key -> new HashMap<>())
+                    .put(employee.employeeId(), employee);
+        }
+        batch.forEach((department, added) -> byDepartment.compute(department, (key, members) -> {
+            Map<T, Employee<T>> bucket = members == null ? new ConcurrentHashMap<>(added.size() * 2) : members;
+            bucket.putAll(added);
+            return bucket;
+        }));
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        byDepartment.computeIfPresent(key(employee.getDepartment()), (key, members) -> {
+            members.remove(employee.employeeId());
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    @Override
+    public void update(Employee<T> previous, Employee<T> current) {
+        String key = key(current.getDepartment());
+        if (!key.equals(key(previous.getDepartment()))) {
+            remove(previous);
+            add(current);
+            return;
+        }
+        byDepartment.computeIfPresent(key, (k, members) -> {
+            members.put(current.employeeId(), current);
+            return members;
+        });
+    }
+
+    @Override
+    public void clear() {
+        byDepartment.clear();
+    }
+
+    /**
+     * Gets the employees of a department
+     * @param department The department, compared ignoring case
+     * @return A read-only view of the matching employees, empty if there are none
+     */
+    Collection<Employee<T>> get(String department) {
+        Map<T, Employee<T>> members = byDepartment.get(key(department));
+        return members == null ? Collections.emptyList() : Collections.unmodifiableCollection(members.values());
+    }
+
+    /**
+     * Counts the employees of a department without copying them
+     * @param department The department, compared ignoring case
+     * @return The number of employees in the department
+     */
+    int count(String department) {
+        Map<T, Employee<T>> members = byDepartment.get(key(department));
+        return members == null ? 0 : members.size();
+    }
+
+    private static String key(String department) {
+        return department.toLowerCase(Locale.ROOT);
+    }
+}
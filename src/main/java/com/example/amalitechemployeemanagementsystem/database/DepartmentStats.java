@@ -0,0 +1,51 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+/**
+ * Point-in-time aggregates for one department.
+ *
+ * @param department The department name
+ * @param headcount The number of employees in the department
+ * @param salary Salary aggregates
+ * @param rating Performance rating aggregates
+ */
+public record DepartmentStats(String department, int headcount, Summary salary, Summary rating) {
+
+    /**
+     * Running aggregates of one numeric field
+     * @param count The number of values
+     * @param sum The sum of the values
+     * @param sumOfSquares The sum of the squared values
+     * @param min The smallest value, or 0 if there are none
+     * @param max The largest value, or 0 if there are none
+     */
+    public record Summary(long count, double sum, double sumOfSquares, double min, double max) {
+        static final Summary EMPTY = new Summary(0, 0, 0, 0, 0);
+
+        /**
+         * @return The mean value, or 0 if there are none
+         */
+        public double average() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * @return The population variance, or 0 if there are none
+         */
+        public double variance() {
+            if (count == 0) {
+                return 0;
+            }
+            double mean = sum / count;
+            // Running sums can leave a tiny negative value behind after cancellation
+            return Math.max(0, sumOfSquares / count - mean * mean);
+        }
+
+        public double standardDeviation() {
+            return Math.sqrt(variance());
+        }
+    }
+
+    static DepartmentStats empty(String department) {
+        return new DepartmentStats(department, 0, Summary.EMPTY, Summary.EMPTY);
+    }
+}
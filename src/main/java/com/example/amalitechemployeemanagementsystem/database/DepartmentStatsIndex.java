@@ -0,0 +1,173 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case-insensitive department to running salary and rating aggregates.
+ * Count, sum and sum of squares change in constant time per write, so averages, variances and
+ * headcounts are read without touching the employees. Minimum and maximum come from a sorted
+ * multiset of the values, which keeps them exact when the current extreme is removed.
+ *
+ * @param <T> Type of the employee ID
+ */
+class DepartmentStatsIndex<T> implements EmployeeIndex<T> {
+    private final Map<String, Aggregate> byDepartment = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(Employee<T> employee) {
+        byDepartment.compute(key(employee.getDepartment()), (key, aggregate) -> {
+            Aggregate target = aggregate == null ? new Aggregate(employee.getDepartment()) : aggregate;
+            target.add(employee);
+            return target;
+        });
+    }
+
+    // Groups the batch so each department's aggregate is locked and updated once
+    @Override
+    public void addAll(Collection<Employee<T>> employees) {
+        Map<String, List<Employee<T>>> batch = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            batch.computeIfAbsent(key(employee.getDepartment()), key -> new ArrayList<>()).add(employee);
+        }
+        batch.forEach((department, added) -> byDepartment.compute(department, (key, aggregate) -> {
+            Aggregate target = aggregate == null ? new Aggregate(added.getFirst().getDepartment()) : aggregate;
+            target.addAll(added);
+            return target;
+        }));
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        byDepartment.computeIfPresent(key(employee.getDepartment()), (key, aggregate) -> {
+            aggregate.remove(employee);
+            return aggregate.isEmpty() ? null : aggregate;
+        });
+    }
+
+    @Override
+    public void update(Employee<T> previous, Employee<T> current) {
+        String key = key(current.getDepartment());
+        if (!key.equals(key(previous.getDepartment()))) {
+            remove(previous);
+            add(current);
+            return;
+        }
+        if (previous.getSalary() == current.getSalary()
+                && previous.getPerformanceRating() == current.getPerformanceRating()) {
+            return;
+        }
+        byDepartment.computeIfPresent(key, (k, aggregate) -> {
+            aggregate.remove(previous);
+            aggregate.add(current);
+            return aggregate;
+        });
+    }
+
+    @Override
+    public void clear() {
+        byDepartment.clear();
+    }
+
+    /**
+     * Gets the aggregates of a department
+     * @param department The department, compared ignoring case
+     * @return The aggregates, or null if the department has no employees
+     */
+    DepartmentStats get(String department) {
+        Aggregate aggregate = byDepartment.get(key(department));
+        return aggregate == null ? null : aggregate.stats();
+    }
+
+    /**
+     * @return The aggregates of every department with employees
+     */
+    List<DepartmentStats> all() {
+        List<DepartmentStats> stats = new ArrayList<>(byDepartment.size());
+        for (Aggregate aggregate : byDepartment.values()) {
+            stats.add(aggregate.stats());
+        }
+        return stats;
+    }
+
+    private static String key(String department) {
+        return department.toLowerCase(Locale.ROOT);
+    }
+
+    // Mutated inside the map's compute functions; readers synchronise to see whole updates
+    private static final class Aggregate {
+        private final String department;
+        private final Running salary = new Running();
+        private final Running rating = new Running();
+        private int headcount;
+
+        Aggregate(String department) {
+            this.department = department;
+        }
+
+        synchronized void add(Employee<?> employee) {
+            headcount++;
+            salary.add(employee.getSalary());
+            rating.add(employee.getPerformanceRating());
+        }
+
+        synchronized void addAll(List<? extends Employee<?>> employees) {
+            for (Employee<?> employee : employees) {
+                add(employee);
+            }
+        }
+
+        synchronized void remove(Employee<?> employee) {
+            headcount--;
+            salary.remove(employee.getSalary());
+            rating.remove(employee.getPerformanceRating());
+        }
+
+        synchronized boolean isEmpty() {
+            return headcount == 0;
+        }
+
+        synchronized DepartmentStats stats() {
+            return new DepartmentStats(department, headcount, salary.summary(), rating.summary());
+        }
+    }
+
+    private static final class Running {
+        private final TreeMap<Double, int[]> values = new TreeMap<>();
+        private long count;
+        private double sum;
+        private double sumOfSquares;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+            values.computeIfAbsent(value, v -> new int[1])[0]++;
+        }
+
+        void remove(double value) {
+            count--;
+            if (count == 0) {
+                // Start from exact zeros instead of carrying rounding error forward
+                sum = 0;
+                sumOfSquares = 0;
+            } else {
+                sum -= value;
+                sumOfSquares -= value * value;
+            }
+            int[] occurrences = values.get(value);
+            if (occurrences != null && --occurrences[0] == 0) {
+                values.remove(value);
+            }
+        }
+
+        DepartmentStats.Summary summary() {
+            if (count == 0) {
+                return DepartmentStats.Summary.EMPTY;
+            }
+            return new DepartmentStats.Summary(count, sum, sumOfSquares, values.firstKey(), values.lastKey());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CSV layout shared by the bulk loader and the exporter: {@code id,name,department,salary,performanceRating,
+ * yearsOfExperience,isActive}. Fields containing a comma, a quote or a line break are wrapped in
+ * quotes, with embedded quotes doubled, so one record may span several lines. Line breaks inside a
+ * field are read back as {@code \n}.
+ */
+final class EmployeeCsv {
+    static final String HEADER = "id,name,department,salary,performanceRating,yearsOfExperience,isActive";
+    private static final int FIELDS = 7;
+
+    private EmployeeCsv() {
+    }
+
+    /**
+     * Parses one CSV line into an employee
+     * @param line The line to parse
+     * @param idParser Converts the ID column into an employee ID
+     * @return The parsed employee
+     * @throws IllegalArgumentException If the line is malformed
+     */
+    static <T> Employee<T> parse(String line, Function<String, T> idParser) {
+        List<String> fields = split(line);
+        if (fields.size() != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields but found " + fields.size());
+        }
+        String active = fields.get(6).trim();
+        if (!active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("isActive must be true or false: " + active);
+        }
+        return new Employee<>(idParser.apply(fields.get(0).trim()), fields.get(1), fields.get(2),
+                Double.parseDouble(fields.get(3).trim()), Double.parseDouble(fields.get(4).trim()),
+                Integer.parseInt(fields.get(5).trim()), Boolean.parseBoolean(active));
+    }
+
+    // Whether a field has to be quoted to survive a round trip through parse
+    static boolean needsQuoting(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a line of a record ends inside a quoted field, meaning the line break that ended it
+     * belongs to the field and the next line continues the record
+     * @param line The line to scan
+     * @param quoted Whether the line starts inside a quoted field, as reported for the previous line
+     * @return Whether the record continues on the next line
+     */
+    static boolean endsInsideQuotes(String line, boolean quoted) {
+        boolean fieldStart = !quoted;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            }
+            fieldStart = !quoted && c == ',';
+        }
+        return quoted;
+    }
+
+    static boolean isHeader(String line) {
+        return line.regionMatches(true, 0, "id,", 0, 3);
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
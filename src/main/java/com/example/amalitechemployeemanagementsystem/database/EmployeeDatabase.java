@@ -8,134 +8,610 @@ import com.example.amalitechemployeemanagementsystem.Utils.EmployeeSalaryCompara
 import com.example.amalitechemployeemanagementsystem.Utils.EmployeeValidator;
 import com.example.amalitechemployeemanagementsystem.model.Employee;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.logging.Level;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-public class EmployeeDatabase <T> {
-  private final Map<T, Employee<T>> employees;
+/**
+ * Thread-safe employee store. Reads never block; writes to the same employee are serialised by
+ * one of {@value #LOCK_STRIPES} locks chosen from the employee ID, so writes to different
+ * employees proceed in parallel.
+ * <p>
+ * Stored employees are immutable versions: a write publishes a new copy of the employee instead
+ * of changing the stored one, so readers always see a consistent point-in-time view through
+ * {@link #snapshot()}. By default they are kept in a persistent hash trie, which makes snapshots
+ * O(1). Employees returned by the database are those stored versions and must be treated as
+ * read-only.
+ * <p>
+ * Writes and failures are recorded as {@link AuditEvent}s, handed to an asynchronous
+ * {@link AuditLog} so that callers never format or write log lines themselves.
+ *
+ * @param <T> Type of the employee ID
+ */
+public class EmployeeDatabase <T> implements Closeable {
+    private static final int LOCK_STRIPES = 64;
+
+  private final EmployeeStore<T> employees;
     private final Set<String> validDepartments;
+    private final DepartmentIndex<T> departmentIndex;
+    private final RankingIndex<T> salaryIndex;
+    private final NameIndex<T> nameIndex;
+    private final DepartmentStatsIndex<T> departmentStats;
+    private final List<EmployeeIndex<T>> indexes;
+    private final Map<Leaderboard, RankingIndex<T>> leaderboards = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks;
+    private volatile EmployeeJournal<T> journal;
+    private final AtomicLong version = new AtomicLong();
+    private final ChangeLog<T> changes = new ChangeLog<>();
+    private final SortedView<T> bySalary;
+    private final SortedView<T> byPerformance;
+    private final SortedView<T> byExperience;
+    private final SortedView<T> byId;
+    private final QueryPlanner<T> planner;
     private static final Logger logger = Logger.getLogger(EmployeeDatabase.class.getName());
+    // Shared by every database without its own audit log; the logger's level gates its events
+    private static final AuditLog LOGGING_AUDIT = AuditLog.forwardingTo(logger);
+    private volatile AuditLog auditLog = LOGGING_AUDIT;
+    private final DatabaseMetrics metrics = new DatabaseMetrics();
 
 
     public EmployeeDatabase(){
-      employees = new HashMap<>();
-      validDepartments = new HashSet<>();
+        this(new TrieEmployeeStore<>());
+    }
+
+    // Lets specialised databases supply their own primary storage
+    EmployeeDatabase(EmployeeStore<T> store){
+      employees = store;
+      validDepartments = ConcurrentHashMap.newKeySet();
+      departmentIndex = new DepartmentIndex<>();
+      salaryIndex = new RankingIndex<>(Employee::getSalary);
+      nameIndex = new NameIndex<>();
+      departmentStats = new DepartmentStatsIndex<>();
+      // Copy-on-write so leaderboards can be enabled while writers iterate the indexes
+      indexes = new CopyOnWriteArrayList<>(List.of(departmentIndex, salaryIndex, nameIndex, departmentStats));
+      leaderboards.put(Leaderboard.SALARY, salaryIndex);
+      bySalary = sortedView(new EmployeeSalaryComparator<>());
+      byPerformance = sortedView(new EmployeePerformanceComparator<>());
+      byExperience = sortedView(Comparator.naturalOrder());
+      byId = sortedView((first, second) -> 0);
+      planner = new QueryPlanner<>(employees, departmentIndex, nameIndex, leaderboards);
+      locks = new ReentrantLock[LOCK_STRIPES];
+      for (int i = 0; i < locks.length; i++) {
+          locks[i] = new ReentrantLock();
+      }
+      // A durable store may open with employees already in it
+      List<Employee<T>> existing = new ArrayList<>(store.size());
+      for (Employee<T> employee : store.snapshot()) {
+          existing.add(employee);
+          validDepartments.add(employee.getDepartment());
+      }
+      for (EmployeeIndex<T> index : indexes) {
+          index.addAll(existing);
+      }
   }
 
+    // Picks the lock guarding an employee ID; LOCK_STRIPES is a power of two
+    private ReentrantLock lockFor(T employeeId) {
+        int hash = employeeId.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    // Excludes every writer; stripes are always taken in the same order
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private SortedView<T> sortedView(Comparator<Employee<T>> order) {
+        return new SortedView<>(order, changes, version::get, employees::snapshot);
+    }
+
+    // Advances the version and logs the write for sorted views; the caller holds the employee's lock
+    private void changed(Employee<T> previous, Employee<T> current) {
+        changes.record(version.incrementAndGet(), previous, current);
+    }
+
+    /*
+     * Journals a new employee version and then stores it; the caller holds the employee's lock.
+     * Journaling first means a record the journal cannot encode fails the write before anything
+     * changed. If the store then fails, the journal is given a record undoing the write.
+     */
+    private void store(Employee<T> previous, Employee<T> current) {
+        EmployeeJournal<T> log = journal;
+        if (log != null) {
+            log.logPut(current);
+        }
+        try {
+            employees.put(current);
+        } catch (RuntimeException e) {
+            if (log != null) {
+                undoInJournal(e, () -> {
+                    if (previous != null) {
+                        log.logPut(previous);
+                    } else {
+                        log.logRemove(current.employeeId());
+                    }
+                });
+            }
+            throw e;
+        }
+    }
+
+    // Journals a removal and then removes the employee from the store, as store does for new versions
+    private void unstore(Employee<T> removed) {
+        EmployeeJournal<T> log = journal;
+        if (log != null) {
+            log.logRemove(removed.employeeId());
+        }
+        try {
+            employees.remove(removed.employeeId());
+        } catch (RuntimeException e) {
+            if (log != null) {
+                undoInJournal(e, () -> log.logPut(removed));
+            }
+            throw e;
+        }
+    }
+
+    private static void undoInJournal(RuntimeException failure, Runnable undo) {
+        try {
+            undo.run();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    // Publishes a new version of an employee and moves the indexes over to it; the caller holds its lock
+    private void replace(Employee<T> previous, Employee<T> current) {
+        store(previous, current);
+        for (EmployeeIndex<T> index : indexes) {
+            index.update(previous, current);
+        }
+        changed(previous, current);
+    }
+
   // method that Adds a new employee to the database
     // the method returns  true if the employee was added successfully, false if an employee with the same ID already exists
 
     public void addEmployee(Employee<T> employee) throws InvalidSalaryException, InvalidDepartmentException {
+        long started = metrics.start();
         try {
             // Validate employee data
             EmployeeValidator.validateEmployee(employee, validDepartments);
 
-            if(employees.containsKey(employee.employeeId())) {
-                logger.warning("Employee with ID " + employee.employeeId() + " already exists. Update skipped.");
-                return;
+            ReentrantLock lock = lockFor(employee.employeeId());
+            lock.lock();
+            try {
+                if (employees.get(employee.employeeId()) != null) {
+                    auditLog.record(AuditEvent.DUPLICATE_SKIPPED, employee.employeeId(), -1, "Update skipped", null);
+                    return;
+                }
+                // Store a private version so later changes to the caller's object cannot leak into snapshots
+                Employee<T> stored = new Employee<>(employee);
+                store(null, stored);
+                for (EmployeeIndex<T> index : indexes) {
+                    index.add(stored);
+                }
+                changed(null, stored);
+            } finally {
+                lock.unlock();
             }
-
-            employees.put(employee.employeeId(), employee);
             validDepartments.add(employee.getDepartment());
-            logger.info("Employee added successfully: " + employee.getName());
+            auditLog.record(AuditEvent.EMPLOYEE_ADDED, employee.employeeId(), -1, employee.getName(), null);
         } catch (NullPointerException e) {
-            logger.log(Level.SEVERE, "Failed to add employee: Null employee object", e);
+            metrics.error(DatabaseOperation.ADD_EMPLOYEE, started);
+            failed("Failed to add employee: Null employee object", e);
             throw new IllegalArgumentException("Employee cannot be null", e);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Unexpected error while adding employee", e);
+            metrics.error(DatabaseOperation.ADD_EMPLOYEE, started);
+            failed("Unexpected error while adding employee", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.ADD_EMPLOYEE, started);
+        }
+    }
+
+
+
+    /**
+     * Adds many employees in one batch. Rows are validated like {@link #addEmployee}, but a bad
+     * row is recorded and skipped instead of aborting the load, and per-row logging is suppressed.
+     * Rows are read and validated first; only then are they stored and indexed, with each index
+     * built from the whole batch at once. Other writers wait only for that publish step; readers
+     * are never blocked. If storing, journaling or indexing fails, none of the batch is kept.
+     * @param newEmployees The employees to add
+     * @return How many employees were added and which rows were rejected
+     * @throws IllegalArgumentException If newEmployees is null
+     */
+    public BulkLoadResult addEmployees(Iterable<Employee<T>> newEmployees) throws IllegalArgumentException {
+        if (newEmployees == null) {
+            throw new IllegalArgumentException("Employees cannot be null");
+        }
+        if (newEmployees instanceof Collection<?> collection) {
+            employees.reserve(collection.size());
+        }
+        Iterator<Employee<T>> source = newEmployees.iterator();
+        return bulkLoad(new Iterator<>() {
+            private long row;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public BulkRow<T> next() {
+                return new BulkRow<>(++row, source.next(), null);
+            }
+        });
+    }
+
+    /**
+     * Streams employees from a CSV file into the database in one batch, without reading the whole
+     * file into memory. Lines hold {@code id,name,department,salary,performanceRating,
+     * yearsOfExperience,isActive}; a header line and blank lines are skipped. A quoted field may
+     * span several lines. Malformed and invalid records are reported in the result under the
+     * number of the line they start on.
+     * @param file The CSV file to load
+     * @param idParser Converts the ID column into an employee ID
+     * @return How many employees were added and which lines were rejected
+     * @throws IOException If the file cannot be read
+     */
+    public BulkLoadResult loadEmployees(Path file, Function<String, T> idParser) throws IOException {
+        if (file == null || idParser == null) {
+            throw new IllegalArgumentException("File and ID parser cannot be null");
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return bulkLoad(new Iterator<>() {
+                private long lineNumber;
+                private long recordNumber;
+                private String line = advance();
+
+                // Reads the next record, joining the lines of a quoted field that contains line breaks
+                private String advance() {
+                    try {
+                        String next;
+                        do {
+                            next = reader.readLine();
+                            lineNumber++;
+                        } while (next != null && (next.isBlank() || (lineNumber == 1 && EmployeeCsv.isHeader(next))));
+                        recordNumber = lineNumber;
+                        if (next == null || !EmployeeCsv.endsInsideQuotes(next, false)) {
+                            return next;
+                        }
+                        StringBuilder record = new StringBuilder(next);
+                        String continuation;
+                        while ((continuation = reader.readLine()) != null) {
+                            lineNumber++;
+                            record.append('\n').append(continuation);
+                            if (!EmployeeCsv.endsInsideQuotes(continuation, true)) {
+                                break;
+                            }
+                        }
+                        return record.toString();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return line != null;
+                }
+
+                @Override
+                public BulkRow<T> next() {
+                    long number = recordNumber;
+                    String current = line;
+                    line = advance();
+                    try {
+                        return new BulkRow<>(number, EmployeeCsv.parse(current, idParser), null);
+                    } catch (RuntimeException e) {
+                        return new BulkRow<>(number, null, "Malformed line: " + e.getMessage());
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // One input row of a bulk load: either a parsed employee or the reason it could not be parsed
+    private record BulkRow<T>(long number, Employee<T> employee, String error) {
+    }
+
+    private BulkLoadResult bulkLoad(Iterator<BulkRow<T>> rows) {
+        long started = metrics.start();
+        List<BulkRow<T>> accepted = new ArrayList<>();
+        List<BulkLoadResult.Rejection> rejected = new ArrayList<>();
+        List<Employee<T>> loaded = new ArrayList<>();
+        try {
+            // Read, parse and validate without any lock, so writers only wait for the publish step
+            Set<T> seen = new HashSet<>();
+            // The validator registers new departments, so it works on a copy until the batch is published
+            Set<String> departments = new HashSet<>(validDepartments);
+            while (rows.hasNext()) {
+                BulkRow<T> row = rows.next();
+                if (row.error() != null) {
+                    rejected.add(new BulkLoadResult.Rejection(row.number(), row.error()));
+                    continue;
+                }
+                Employee<T> employee = row.employee();
+                try {
+                    EmployeeValidator.validateEmployee(employee, departments);
+                    if (employee.employeeId() == null) {
+                        throw new IllegalArgumentException("Employee ID cannot be null");
+                    }
+                } catch (InvalidSalaryException | InvalidDepartmentException | IllegalArgumentException e) {
+                    rejected.add(new BulkLoadResult.Rejection(row.number(), e.getMessage()));
+                    continue;
+                }
+                if (!seen.add(employee.employeeId()) || employees.get(employee.employeeId()) != null) {
+                    rejected.add(new BulkLoadResult.Rejection(row.number(), alreadyExists(employee)));
+                    continue;
+                }
+                accepted.add(new BulkRow<>(row.number(), new Employee<>(employee), null));
+            }
+            publish(accepted, loaded, rejected);
+        } catch (RuntimeException e) {
+            metrics.error(DatabaseOperation.BULK_LOAD, started);
+            failed("Bulk load failed; no employees were added", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.BULK_LOAD, started);
+        }
+        rejected.sort(Comparator.comparingLong(BulkLoadResult.Rejection::row));
+        auditLog.record(AuditEvent.BULK_LOADED, null, loaded.size(), rejected.size() + " rejected", null);
+        return new BulkLoadResult(loaded.size(), rejected);
+    }
+
+    // Stores, journals and indexes validated rows as one unit: if any step fails, the store, journal and indexes are rolled back
+    private void publish(List<BulkRow<T>> accepted, List<Employee<T>> loaded, List<BulkLoadResult.Rejection> rejected) {
+        EmployeeJournal<T> log = journal;
+        int journaled = 0;
+        int indexed = 0;
+        // Holding every stripe keeps writers away from rows that are stored but not indexed yet
+        lockAll();
+        List<EmployeeIndex<T>> targets = List.copyOf(indexes);
+        try {
+            for (BulkRow<T> row : accepted) {
+                Employee<T> employee = row.employee();
+                // Another writer may have added the ID since it was checked
+                if (employees.get(employee.employeeId()) != null) {
+                    rejected.add(new BulkLoadResult.Rejection(row.number(), alreadyExists(employee)));
+                    continue;
+                }
+                employees.put(employee);
+                loaded.add(employee);
+            }
+            if (log != null) {
+                for (Employee<T> employee : loaded) {
+                    log.logPut(employee);
+                    journaled++;
+                }
+            }
+            for (EmployeeIndex<T> index : targets) {
+                index.addAll(loaded);
+                indexed++;
+            }
+            if (!loaded.isEmpty()) {
+                // Too many rows to replay one by one; views rebuild instead
+                changed(null, null);
+            }
+        } catch (RuntimeException e) {
+            rollBack(loaded, log, journaled, targets, indexed);
+            loaded.clear();
             throw e;
+        } finally {
+            unlockAll();
+        }
+        for (Employee<T> employee : loaded) {
+            validDepartments.add(employee.getDepartment());
         }
     }
 
+    // Undoes a failed publish; called with every stripe held
+    private void rollBack(List<Employee<T>> stored, EmployeeJournal<T> log, int journaled,
+                          List<EmployeeIndex<T>> targets, int indexed) {
+        for (int i = 0; i < indexed; i++) {
+            for (Employee<T> employee : stored) {
+                targets.get(i).remove(employee);
+            }
+        }
+        for (Employee<T> employee : stored) {
+            employees.remove(employee.employeeId());
+        }
+        for (int i = 0; i < journaled; i++) {
+            log.logRemove(stored.get(i).employeeId());
+        }
+        if (indexed < targets.size()) {
+            // The index that failed may hold any part of the batch, so rebuild it from the store
+            EmployeeIndex<T> partial = targets.get(indexed);
+            partial.clear();
+            List<Employee<T>> remaining = new ArrayList<>(employees.size());
+            employees.snapshot().forEach(remaining::add);
+            partial.addAll(remaining);
+        }
+    }
 
+    private static String alreadyExists(Employee<?> employee) {
+        return "Employee with ID " + employee.employeeId() + " already exists";
+    }
 
    // method to Removes an employee from the database.
    public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
 
 
+      long started = metrics.start();
       try {
           if (employeeId == null) {
               throw new IllegalArgumentException("Employee ID cannot be null");
           }
 
-            if (!employees.containsKey(employeeId)) {
-                logger.warning("Employee with ID " + employeeId + " not found. Removal skipped.");
-                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found.");
+            Employee<T> removedEmployee;
+            ReentrantLock lock = lockFor(employeeId);
+            lock.lock();
+            try {
+                removedEmployee = employees.get(employeeId);
+                if (removedEmployee == null) {
+                    auditLog.record(AuditEvent.EMPLOYEE_NOT_FOUND, employeeId, -1, "Removal skipped", null);
+                    throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found.");
+                }
+                unstore(removedEmployee);
+                for (EmployeeIndex<T> index : indexes) {
+                    index.remove(removedEmployee);
+                }
+                changed(removedEmployee, null);
+            } finally {
+                lock.unlock();
             }
-            Employee<T> removedEmployee = employees.remove(employeeId);
-            logger.info("Employee removed successfully: " + removedEmployee.getName());
+            auditLog.record(AuditEvent.EMPLOYEE_REMOVED, employeeId, -1, removedEmployee.getName(), null);
       }catch (Exception e) {
-          logger.log(Level.SEVERE, "Unexpected error while removing employee", e);
+          metrics.error(DatabaseOperation.REMOVE_EMPLOYEE, started);
+          failed("Unexpected error while removing employee", e);
           throw e;
+      } finally {
+          metrics.stop(DatabaseOperation.REMOVE_EMPLOYEE, started);
       }
    }
 
-    //Updates an employee's details.
+    /**
+     * Updates a single field of an employee; prefer {@link #applyPatch} when changing several fields
+     * @param employeeId The ID of the employee to update
+     * @param field The field name, ignoring case
+     * @param newValue The new value, boxed to the field's type
+     * @throws EmployeeNotFoundException If no employee has the ID
+     * @throws InvalidSalaryException If the salary is negative
+     * @throws InvalidDepartmentException If the department is empty
+     */
  public void updateEmployeeDetails(T employeeId, String field, Object newValue)
          throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
-     try {
-         if (employeeId == null) {
-             throw new IllegalArgumentException("Employee ID cannot be null");
-         }
-
-         if (field == null || field.trim().isEmpty()) {
-             throw new IllegalArgumentException("Field name cannot be null or empty");
-         }
-
-         if (!employees.containsKey(employeeId)) {
-             throw new EmployeeNotFoundException("No employee found with ID: " + employeeId);
-         }
-
-         Employee<T> employee = employees.get(employeeId);
-
-         switch (field.toLowerCase()) {
-             case "name":
-                 EmployeeValidator.validateName((String) newValue);
-                 employee.setName((String) newValue);
-                 break;
-             case "department":
-                 EmployeeValidator.validateDepartment((String) newValue);
-                 employee.setDepartment((String) newValue);
-                 validDepartments.add((String) newValue);
-                 break;
-             case "salary":
-                 EmployeeValidator.validateSalary((Double) newValue);
-                 employee.setSalary((Double) newValue);
-                 break;
-             case "performancerating":
-                 EmployeeValidator.validatePerformanceRating((Double) newValue);
-                 employee.setPerformanceRating((Double) newValue);
-                 break;
-             case "yearsofexperience":
-                 EmployeeValidator.validateYearsOfExperience((Integer) newValue);
-                 employee.setYearsOfExperience((Integer) newValue);
-                 break;
-             case "isactive":
-                 employee.setActive((Boolean) newValue);
-                 break;
-             default:
-                 throw new IllegalArgumentException("Unknown field: " + field);
-         }
-
-         logger.info("Employee updated successfully: " + employee.getName() + ", Field: " + field);
-     } catch (ClassCastException e) {
-         logger.log(Level.WARNING, "Invalid value type for field: " + field, e);
-         throw new IllegalArgumentException("Invalid value type for field: " + field, e);
-     } catch (Exception e) {
-         logger.log(Level.SEVERE, "Error updating employee details", e);
-         throw e;
-     }
+     update(employeeId, () -> fieldPatch(employeeId, field, newValue));
  }
+
+    /**
+     * Applies several field changes to an employee at once. The patch is validated up front, and
+     * the new version is published with a single write, so readers never see it half applied and
+     * the indexes are updated once. A patch that changes nothing leaves the employee untouched.
+     * @param employeeId The ID of the employee to update
+     * @param patch The changes to apply
+     * @return The employee version after the patch
+     * @throws EmployeeNotFoundException If no employee has the ID
+     * @throws InvalidSalaryException If the salary is negative
+     * @throws InvalidDepartmentException If the department is empty
+     */
+    public Employee<T> applyPatch(T employeeId, EmployeePatch patch)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        return update(employeeId, () -> {
+            if (patch == null) {
+                throw new IllegalArgumentException("Patch cannot be null");
+            }
+            return patch;
+        });
+    }
+
+    // Supplies the patch for an update, or fails with the reason it cannot be built
+    private interface PatchSource {
+        EmployeePatch get() throws InvalidSalaryException, InvalidDepartmentException;
+    }
+
+    /*
+     * Applies a patch to an employee. A single named field change is translated into its patch
+     * here, inside the measured block, so a bad field or value is counted and audited like any
+     * other failed update.
+     */
+    private Employee<T> update(T employeeId, PatchSource source)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        long started = metrics.start();
+        try {
+            if (employeeId == null) {
+                throw new IllegalArgumentException("Employee ID cannot be null");
+            }
+            EmployeePatch patch = source.get();
+            patch.validate();
+
+            ReentrantLock lock = lockFor(employeeId);
+            lock.lock();
+            Employee<T> employee;
+            try {
+                Employee<T> current = employees.get(employeeId);
+                if (current == null) {
+                    throw new EmployeeNotFoundException("No employee found with ID: " + employeeId);
+                }
+                if (!patch.changes(current)) {
+                    return current;
+                }
+                employee = patch.applyTo(current);
+                replace(current, employee);
+            } finally {
+                lock.unlock();
+            }
+            if (patch.changesDepartment()) {
+                validDepartments.add(patch.department());
+            }
+
+            auditLog.record(AuditEvent.EMPLOYEE_UPDATED, employeeId, -1, patch, null);
+            return employee;
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.UPDATE_EMPLOYEE, started);
+            failed("Error updating employee details", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.UPDATE_EMPLOYEE, started);
+        }
+    }
+
+    private EmployeePatch fieldPatch(T employeeId, String field, Object newValue)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        if (field == null || field.trim().isEmpty()) {
+            throw new IllegalArgumentException("Field name cannot be null or empty");
+        }
+        try {
+            return EmployeePatch.forField(field, newValue);
+        } catch (ClassCastException e) {
+            auditLog.record(AuditEvent.INVALID_FIELD_VALUE, employeeId, -1, field, e);
+            throw new IllegalArgumentException("Invalid value type for field: " + field, e);
+        }
+    }
+
+    /**
+     * Counts the writes made to the database. It changes whenever an employee is added, updated
+     * or removed, so derived data stamped with it can tell whether it is stale.
+     * @return The current modification version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     //Retrieves all employees.
    public List<Employee<T>> getAllEmployees() {
 
        try {
-           return new ArrayList<>(employees.values());
+           return copyAll();
        } catch (Exception e) {
-           logger.log(Level.SEVERE, "Error retrieving all employees", e);
+           failed("Error retrieving all employees", e);
            throw e;
        }
    }
@@ -143,17 +619,16 @@ public class EmployeeDatabase <T> {
    // Searches for employees by department.
 
     public List<Employee<T>> searchByDepartment(String department) throws InvalidDepartmentException {
+        long started = metrics.start();
         try {
-            if (department == null || department.trim().isEmpty()) {
-                throw new InvalidDepartmentException("Department cannot be null or empty");
-            }
-
-            return employees.values().stream()
-                    .filter(emp -> emp.getDepartment().equalsIgnoreCase(department))
-                    .collect(Collectors.toList());
+            checkDepartment(department);
+            return new ArrayList<>(departmentIndex.get(department));
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error searching employees by department", e);
+            metrics.error(DatabaseOperation.SEARCH_BY_DEPARTMENT, started);
+            failed("Error searching employees by department", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SEARCH_BY_DEPARTMENT, started);
         }
     }
     //Searches for employees by name (partial match).
@@ -165,17 +640,16 @@ public class EmployeeDatabase <T> {
      * @throws IllegalArgumentException If the name is null or empty
      */
     public List<Employee<T>> searchByName(String name) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
-            if (name == null || name.trim().isEmpty()) {
-                throw new IllegalArgumentException("Name cannot be null or empty");
-            }
-
-            return employees.values().stream()
-                    .filter(emp -> emp.getName().toLowerCase().contains(name.toLowerCase()))
-                    .collect(Collectors.toList());
+            checkName(name);
+            return nameIndex.search(name);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error searching employees by name", e);
+            metrics.error(DatabaseOperation.SEARCH_BY_NAME, started);
+            failed("Error searching employees by name", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SEARCH_BY_NAME, started);
         }
     }
 
@@ -186,17 +660,18 @@ public class EmployeeDatabase <T> {
      * @throws IllegalArgumentException If the rating is negative
      */
     public List<Employee<T>> filterByMinimumRating(double minRating) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
-            if (minRating < 0) {
-                throw new IllegalArgumentException("Minimum rating cannot be negative");
-            }
-
-            return employees.values().stream()
+            checkMinimumRating(minRating);
+            return snapshot().stream()
                     .filter(emp -> emp.getPerformanceRating() >= minRating)
                     .collect(Collectors.toList());
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error filtering employees by minimum rating", e);
+            metrics.error(DatabaseOperation.FILTER_BY_MINIMUM_RATING, started);
+            failed("Error filtering employees by minimum rating", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_BY_MINIMUM_RATING, started);
         }
     }
 
@@ -208,21 +683,45 @@ public class EmployeeDatabase <T> {
      * @throws InvalidSalaryException If minSalary is negative or maxSalary is less than minSalary
      */
     public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        long started = metrics.start();
         try {
-            if (minSalary < 0) {
-                throw new InvalidSalaryException("Minimum salary cannot be negative: " + minSalary);
-            }
-
-            if (maxSalary < minSalary) {
-                throw new IllegalArgumentException("Maximum salary cannot be less than minimum salary");
-            }
-
-            return employees.values().stream()
-                    .filter(emp -> emp.getSalary() >= minSalary && emp.getSalary() <= maxSalary)
-                    .collect(Collectors.toList());
+            checkSalaryRange(minSalary, maxSalary);
+            return salaryIndex.range(minSalary, maxSalary);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error filtering employees by salary range", e);
+            metrics.error(DatabaseOperation.FILTER_BY_SALARY_RANGE, started);
+            failed("Error filtering employees by salary range", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_BY_SALARY_RANGE, started);
+        }
+    }
+
+    // The checks below are shared by the list, paged and streaming variants so they reject the same input alike
+
+    private static void checkDepartment(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            throw new InvalidDepartmentException("Department cannot be null or empty");
+        }
+    }
+
+    private static void checkName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+    }
+
+    private static void checkMinimumRating(double minRating) {
+        if (minRating < 0) {
+            throw new IllegalArgumentException("Minimum rating cannot be negative");
+        }
+    }
+
+    private static void checkSalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        if (minSalary < 0) {
+            throw new InvalidSalaryException("Minimum salary cannot be negative: " + minSalary);
+        }
+        if (maxSalary < minSalary) {
+            throw new IllegalArgumentException("Maximum salary cannot be less than minimum salary");
         }
     }
 
@@ -233,75 +732,270 @@ public class EmployeeDatabase <T> {
      * @throws IllegalArgumentException If the predicate is null
      */
     public List<Employee<T>> filterEmployees(Predicate<Employee<T>> predicate) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
             if (predicate == null) {
                 throw new IllegalArgumentException("Predicate cannot be null");
             }
 
-            return employees.values().stream()
+            return snapshot().stream()
                     .filter(predicate)
                     .collect(Collectors.toList());
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error filtering employees with custom predicate", e);
+            metrics.error(DatabaseOperation.FILTER_EMPLOYEES, started);
+            failed("Error filtering employees with custom predicate", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_EMPLOYEES, started);
+        }
+    }
+
+    /**
+     * Runs a query, driving it from the most selective index that can answer one of its criteria
+     * and checking the other criteria per candidate
+     * @param query The query to run
+     * @return The matching employees, ordered and cut as the query asks
+     * @throws IllegalArgumentException If query is null
+     */
+    public List<Employee<T>> query(EmployeeQuery<T> query) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            if (query == null) {
+                throw new IllegalArgumentException("Query cannot be null");
+            }
+            return planner.execute(query);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.QUERY, started);
+            failed("Error running employee query", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.QUERY, started);
         }
     }
 
+    /**
+     * Describes how {@link #query} would run a query right now, without running it
+     * @param query The query to plan
+     * @return The chosen access path, its estimated size and the residual criteria
+     * @throws IllegalArgumentException If query is null
+     */
+    public QueryPlan explain(EmployeeQuery<T> query) throws IllegalArgumentException {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        return planner.explain(query);
+    }
+
     /**
      * Gets an iterator for all employees
-     * @return An iterator for the employees
+     * @return An iterator over a snapshot of the employees, unaffected by later writes
      */
     public Iterator<Employee<T>> getEmployeeIterator() {
         try {
-            return employees.values().iterator();
+            return snapshot().iterator();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error getting employee iterator", e);
+            failed("Error getting employee iterator", e);
             throw e;
         }
     }
 
     /**
-     * Sorts employees by salary (highest first)
-     * @return A list of employees sorted by salary in descending order
+     * Sorts employees by salary (highest first). The sorted list is cached until the next write.
+     * @return An immutable list of employees sorted by salary in descending order
      */
     public List<Employee<T>> sortBySalary() {
+        long started = metrics.start();
         try {
-            List<Employee<T>> sortedEmployees = new ArrayList<>(employees.values());
-            sortedEmployees.sort(new EmployeeSalaryComparator<>());
-            return sortedEmployees;
+            return bySalary.get();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error sorting employees by salary", e);
+            metrics.error(DatabaseOperation.SORT_BY_SALARY, started);
+            failed("Error sorting employees by salary", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SORT_BY_SALARY, started);
         }
     }
 
     /**
-     * Sorts employees by performance rating (the best first)
-     * @return A list of employees sorted by performance in descending order
+     * Sorts employees by performance rating (the best first). The sorted list is cached until the next write.
+     * @return An immutable list of employees sorted by performance in descending order
      */
     public List<Employee<T>> sortByPerformance() {
+        long started = metrics.start();
         try {
-            List<Employee<T>> sortedEmployees = new ArrayList<>(employees.values());
-            sortedEmployees.sort(new EmployeePerformanceComparator<>());
-            return sortedEmployees;
+            return byPerformance.get();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error sorting employees by performance", e);
+            metrics.error(DatabaseOperation.SORT_BY_PERFORMANCE, started);
+            failed("Error sorting employees by performance", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SORT_BY_PERFORMANCE, started);
         }
     }
 
     /**
-     * Sorts employees by years of experience (most experienced first)
-     * @return A list of employees sorted by years of experience in descending order
+     * Sorts employees by years of experience (most experienced first). The sorted list is cached until the next write.
+     * @return An immutable list of employees sorted by years of experience in descending order
      */
     public List<Employee<T>> sortByExperience() {
+        long started = metrics.start();
+        try {
+            return byExperience.get();
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.SORT_BY_EXPERIENCE, started);
+            failed("Error sorting employees by experience", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SORT_BY_EXPERIENCE, started);
+        }
+    }
+
+    /*
+     * The streams below are measured like the other queries, but only while the stream is being
+     * opened: the employees are read later, lazily, by the caller, so that time cannot be
+     * attributed to the database.
+     */
+
+    /**
+     * Streams every employee of a snapshot. Unlike {@link #getAllEmployees()} nothing is copied, and
+     * the stream splits the snapshot's own structure when run in parallel.
+     * @return A lazy stream over a consistent view of the employees
+     */
+    public Stream<Employee<T>> streamAllEmployees() {
+        long started = metrics.start();
+        try {
+            return snapshot().stream();
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.STREAM_ALL_EMPLOYEES, started);
+            failed("Error streaming all employees", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.STREAM_ALL_EMPLOYEES, started);
+        }
+    }
+
+    /**
+     * Streams the employees of a department straight from the department index.
+     * Like {@link #searchByDepartment(String)} it is weakly consistent: writes made while the stream
+     * is traversed may or may not be seen.
+     * @param department The department to search for
+     * @return A lazy stream over the employees of the department
+     * @throws InvalidDepartmentException If the department is null or empty
+     */
+    public Stream<Employee<T>> streamByDepartment(String department) throws InvalidDepartmentException {
+        long started = metrics.start();
+        try {
+            checkDepartment(department);
+            return departmentIndex.get(department).stream();
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.STREAM_BY_DEPARTMENT, started);
+            failed("Error streaming employees by department", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.STREAM_BY_DEPARTMENT, started);
+        }
+    }
+
+    /**
+     * Streams the employees in a salary range straight from the salary index, lowest salary first.
+     * Like {@link #filterBySalaryRange(double, double)} it is weakly consistent.
+     * @param minSalary The minimum salary
+     * @param maxSalary The maximum salary
+     * @return A lazy stream over the employees with salaries in the range
+     * @throws InvalidSalaryException If minSalary is negative or maxSalary is less than minSalary
+     */
+    public Stream<Employee<T>> streamBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        long started = metrics.start();
+        try {
+            checkSalaryRange(minSalary, maxSalary);
+            return salaryIndex.stream(minSalary, maxSalary);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.STREAM_BY_SALARY_RANGE, started);
+            failed("Error streaming employees by salary range", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.STREAM_BY_SALARY_RANGE, started);
+        }
+    }
+
+    /**
+     * Streams the employees of a snapshot with at least a minimum performance rating
+     * @param minRating The minimum rating to filter by
+     * @return A lazy stream over a consistent view of the matching employees
+     * @throws IllegalArgumentException If the rating is negative
+     */
+    public Stream<Employee<T>> streamByMinimumRating(double minRating) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
-            List<Employee<T>> sortedEmployees = new ArrayList<>(employees.values());
-            Collections.sort(sortedEmployees); // Uses the natural ordering defined by compareTo
-            return sortedEmployees;
+            checkMinimumRating(minRating);
+            return snapshot().stream().filter(emp -> emp.getPerformanceRating() >= minRating);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error sorting employees by experience", e);
+            metrics.error(DatabaseOperation.STREAM_BY_MINIMUM_RATING, started);
+            failed("Error streaming employees by minimum rating", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.STREAM_BY_MINIMUM_RATING, started);
+        }
+    }
+
+    /**
+     * Streams the employees of a snapshot that satisfy a predicate
+     * @param predicate The predicate to filter by
+     * @return A lazy stream over a consistent view of the matching employees
+     * @throws IllegalArgumentException If the predicate is null
+     */
+    public Stream<Employee<T>> streamEmployees(Predicate<Employee<T>> predicate) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            if (predicate == null) {
+                throw new IllegalArgumentException("Predicate cannot be null");
+            }
+
+            return snapshot().stream().filter(predicate);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.STREAM_EMPLOYEES, started);
+            failed("Error streaming employees with custom predicate", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.STREAM_EMPLOYEES, started);
+        }
+    }
+
+    /**
+     * Streams the cached salary ordering (highest first)
+     * @return An ordered stream that splits evenly in parallel
+     */
+    public Stream<Employee<T>> streamBySalary() {
+        return streamOf(DatabaseOperation.STREAM_BY_SALARY, "Error streaming employees by salary", bySalary);
+    }
+
+    /**
+     * Streams the cached performance ordering (the best first)
+     * @return An ordered stream that splits evenly in parallel
+     */
+    public Stream<Employee<T>> streamByPerformance() {
+        return streamOf(DatabaseOperation.STREAM_BY_PERFORMANCE, "Error streaming employees by performance", byPerformance);
+    }
+
+    /**
+     * Streams the cached experience ordering (most experienced first)
+     * @return An ordered stream that splits evenly in parallel
+     */
+    public Stream<Employee<T>> streamByExperience() {
+        return streamOf(DatabaseOperation.STREAM_BY_EXPERIENCE, "Error streaming employees by experience", byExperience);
+    }
+
+    // Streams a cached sorted view; bringing the view up to date is part of the measured call
+    private Stream<Employee<T>> streamOf(DatabaseOperation operation, String failure, SortedView<T> view) {
+        long started = metrics.start();
+        try {
+            return view.get().stream();
+        } catch (Exception e) {
+            metrics.error(operation, started);
+            failed(failure, e);
+            throw e;
+        } finally {
+            metrics.stop(operation, started);
         }
     }
 
@@ -313,6 +1007,7 @@ public class EmployeeDatabase <T> {
      * @throws IllegalArgumentException If minRating is negative or percentageRaise is negative
      */
     public int giveSalaryRaise(double minRating, double percentageRaise) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
             if (minRating < 0) {
                 throw new IllegalArgumentException("Minimum rating cannot be negative");
@@ -323,18 +1018,30 @@ public class EmployeeDatabase <T> {
             }
 
             int count = 0;
-            for (Employee<T> employee : employees.values()) {
-                if (employee.getPerformanceRating() >= minRating) {
-                    double newSalary = employee.getSalary() * (1 + percentageRaise / 100);
-                    employee.setSalary(newSalary);
-                    count++;
+            for (Employee<T> employee : employees.snapshot()) {
+                ReentrantLock lock = lockFor(employee.employeeId());
+                lock.lock();
+                try {
+                    // Re-read under the lock: the employee may have changed or left since the snapshot
+                    Employee<T> current = employees.get(employee.employeeId());
+                    if (current != null && current.getPerformanceRating() >= minRating) {
+                        Employee<T> raised = new Employee<>(current);
+                        raised.setSalary(current.getSalary() * (1 + percentageRaise / 100));
+                        replace(current, raised);
+                        count++;
+                    }
+                } finally {
+                    lock.unlock();
                 }
             }
-            logger.info("Salary raise applied to " + count + " employees");
+            auditLog.record(AuditEvent.SALARY_RAISED, null, count, null, null);
             return count;
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error giving salary raise", e);
+            metrics.error(DatabaseOperation.SALARY_RAISE, started);
+            failed("Error giving salary raise", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SALARY_RAISE, started);
         }
     }
 
@@ -345,21 +1052,369 @@ public class EmployeeDatabase <T> {
      * @throws IllegalArgumentException If n is not positive
      */
     public List<Employee<T>> getTopPaidEmployees(int n) throws IllegalArgumentException {
+        long started = metrics.start();
         try {
             if (n <= 0) {
                 throw new IllegalArgumentException("Number of employees must be positive");
             }
 
-            return employees.values().stream()
-                    .sorted(new EmployeeSalaryComparator<>())
-                    .limit(n)
-                    .collect(Collectors.toList());
+            return salaryIndex.top(n);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.TOP_PAID, started);
+            failed("Error getting top paid employees", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.TOP_PAID, started);
+        }
+    }
+
+    /**
+     * Gets one page of all employees in ID order. Pages are keyed by the last ID returned, so
+     * employees added or removed meanwhile never shift others between pages.
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is invalid
+     */
+    public Page<T> getAllEmployees(int pageSize, String cursor) throws IllegalArgumentException {
+        return viewPage(DatabaseOperation.GET_ALL_EMPLOYEES_PAGE, "Error paging all employees",
+                byId, PageCursor.BY_ID, pageSize, cursor);
+    }
+
+    /**
+     * Gets one page of the employees of a department, in ID order
+     * @param department The department, compared ignoring case
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws InvalidDepartmentException If the department is null or empty
+     */
+    public Page<T> searchByDepartment(String department, int pageSize, String cursor) throws InvalidDepartmentException {
+        long started = metrics.start();
+        try {
+            checkDepartment(department);
+            return pageOf(departmentIndex.get(department), pageSize, cursor);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.SEARCH_BY_DEPARTMENT_PAGE, started);
+            failed("Error paging employees by department", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SEARCH_BY_DEPARTMENT_PAGE, started);
+        }
+    }
+
+    /**
+     * Gets one page of the employees whose name contains some text, in ID order
+     * @param name The text to search for, ignoring case
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws IllegalArgumentException If the name is null or empty
+     */
+    public Page<T> searchByName(String name, int pageSize, String cursor) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            checkName(name);
+            return pageOf(nameIndex.search(name), pageSize, cursor);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.SEARCH_BY_NAME_PAGE, started);
+            failed("Error paging employees by name", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.SEARCH_BY_NAME_PAGE, started);
+        }
+    }
+
+    /**
+     * Gets one page of the employees with at least a given rating, in ID order
+     * @param minRating The minimum rating, inclusive
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws IllegalArgumentException If the rating is negative
+     */
+    public Page<T> filterByMinimumRating(double minRating, int pageSize, String cursor) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            checkMinimumRating(minRating);
+            return pageOf(byId, PageCursor.BY_ID, employee -> employee.getPerformanceRating() >= minRating, pageSize, cursor);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.FILTER_BY_MINIMUM_RATING_PAGE, started);
+            failed("Error paging employees by minimum rating", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_BY_MINIMUM_RATING_PAGE, started);
+        }
+    }
+
+    /**
+     * Gets one page of the employees whose salary lies in a range, lowest salary first like
+     * {@link #filterBySalaryRange(double, double)}, with ties in ID order. Each page is read from
+     * the salary index starting at the cursor's salary, so nothing before it is visited.
+     * @param minSalary The minimum salary, inclusive
+     * @param maxSalary The maximum salary, inclusive
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws InvalidSalaryException If minSalary is negative
+     * @throws IllegalArgumentException If maxSalary is less than minSalary, pageSize is not positive
+     * or the cursor is invalid
+     */
+    public Page<T> filterBySalaryRange(double minSalary, double maxSalary, int pageSize, String cursor)
+            throws InvalidSalaryException {
+        long started = metrics.start();
+        try {
+            checkSalaryRange(minSalary, maxSalary);
+            checkPageSize(pageSize);
+            Comparator<Employee<T>> order = Comparator.<Employee<T>>comparingDouble(Employee::getSalary)
+                    .thenComparing(SortedView::compareIds);
+            Employee<T> after = cursor == null ? null : PageCursor.decode(cursor, PageCursor.BY_SALARY_RANGE);
+            double from = after == null ? minSalary : Math.max(minSalary, after.getSalary());
+            List<Employee<T>> items = new ArrayList<>(Math.min(pageSize + 1, 1024));
+            if (from <= maxSalary) {
+                // The index orders equal salaries by insertion, so read on past the page until the salary changes
+                Iterator<Employee<T>> candidates = salaryIndex.stream(from, maxSalary).iterator();
+                while (candidates.hasNext()) {
+                    Employee<T> employee = candidates.next();
+                    if (items.size() > pageSize && employee.getSalary() > items.get(pageSize).getSalary()) {
+                        break;
+                    }
+                    if (after == null || order.compare(employee, after) > 0) {
+                        items.add(employee);
+                    }
+                }
+                items.sort(order);
+            }
+            return toPage(items.size() > pageSize + 1 ? items.subList(0, pageSize + 1) : items,
+                    pageSize, PageCursor.BY_SALARY_RANGE);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.FILTER_BY_SALARY_RANGE_PAGE, started);
+            failed("Error paging employees by salary range", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_BY_SALARY_RANGE_PAGE, started);
+        }
+    }
+
+    /**
+     * Gets one page of the employees matching a predicate, in ID order
+     * @param predicate The condition to match
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     * @throws IllegalArgumentException If the predicate is null
+     */
+    public Page<T> filterEmployees(Predicate<Employee<T>> predicate, int pageSize, String cursor)
+            throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            if (predicate == null) {
+                throw new IllegalArgumentException("Predicate cannot be null");
+            }
+            return pageOf(byId, PageCursor.BY_ID, predicate, pageSize, cursor);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error getting top paid employees", e);
+            metrics.error(DatabaseOperation.FILTER_EMPLOYEES_PAGE, started);
+            failed("Error paging employees with custom predicate", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.FILTER_EMPLOYEES_PAGE, started);
         }
     }
 
+    /**
+     * Gets one page of employees sorted by salary, highest first
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     */
+    public Page<T> sortBySalary(int pageSize, String cursor) throws IllegalArgumentException {
+        return viewPage(DatabaseOperation.SORT_BY_SALARY_PAGE, "Error paging employees by salary",
+                bySalary, PageCursor.BY_SALARY, pageSize, cursor);
+    }
+
+    /**
+     * Gets one page of employees sorted by performance rating, the best first
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     */
+    public Page<T> sortByPerformance(int pageSize, String cursor) throws IllegalArgumentException {
+        return viewPage(DatabaseOperation.SORT_BY_PERFORMANCE_PAGE, "Error paging employees by performance",
+                byPerformance, PageCursor.BY_PERFORMANCE, pageSize, cursor);
+    }
+
+    /**
+     * Gets one page of employees sorted by years of experience, most experienced first
+     * @param pageSize The maximum number of employees per page
+     * @param cursor The token from the previous page, or null for the first page
+     * @return The page
+     */
+    public Page<T> sortByExperience(int pageSize, String cursor) throws IllegalArgumentException {
+        return viewPage(DatabaseOperation.SORT_BY_EXPERIENCE_PAGE, "Error paging employees by experience",
+                byExperience, PageCursor.BY_EXPERIENCE, pageSize, cursor);
+    }
+
+    // Pages through a whole sorted view, measured and audited as one operation
+    private Page<T> viewPage(DatabaseOperation operation, String failure, SortedView<T> view, byte ordering,
+                             int pageSize, String cursor) {
+        long started = metrics.start();
+        try {
+            return pageOf(view, ordering, employee -> true, pageSize, cursor);
+        } catch (Exception e) {
+            metrics.error(operation, started);
+            failed(failure, e);
+            throw e;
+        } finally {
+            metrics.stop(operation, started);
+        }
+    }
+
+    // Pages through a cached sorted view: binary search past the cursor, then read forward
+    private Page<T> pageOf(SortedView<T> view, byte ordering, Predicate<Employee<T>> filter, int pageSize, String cursor) {
+        checkPageSize(pageSize);
+        List<Employee<T>> sorted = view.get();
+        int start = 0;
+        if (cursor != null) {
+            int position = Collections.binarySearch(sorted, PageCursor.decode(cursor, ordering), view.order());
+            start = position >= 0 ? position + 1 : -position - 1;
+        }
+        // Read one extra match to learn whether another page follows
+        List<Employee<T>> items = new ArrayList<>(Math.min(pageSize + 1, sorted.size() - start));
+        for (int i = start; i < sorted.size() && items.size() <= pageSize; i++) {
+            if (filter.test(sorted.get(i))) {
+                items.add(sorted.get(i));
+            }
+        }
+        return toPage(items, pageSize, ordering);
+    }
+
+    // Pages through index results in ID order, keeping only the next page's worth in a heap
+    private Page<T> pageOf(Collection<Employee<T>> candidates, int pageSize, String cursor) {
+        checkPageSize(pageSize);
+        Comparator<Employee<T>> order = byId.order();
+        Iterable<Employee<T>> remaining = candidates;
+        if (cursor != null) {
+            Employee<T> after = PageCursor.decode(cursor, PageCursor.BY_ID);
+            remaining = () -> candidates.stream().filter(employee -> order.compare(employee, after) > 0).iterator();
+        }
+        return toPage(selectTop(remaining, pageSize + 1, order), pageSize, PageCursor.BY_ID);
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+
+    private Page<T> toPage(List<Employee<T>> items, int pageSize, byte ordering) {
+        if (items.size() <= pageSize) {
+            return new Page<>(items, null);
+        }
+        List<Employee<T>> page = items.subList(0, pageSize);
+        return new Page<>(page, PageCursor.encode(page.get(pageSize - 1), ordering));
+    }
+
+    /**
+     * Selects the first k employees in a given order with a bounded heap, in O(n log k) instead
+     * of sorting everyone
+     * @param k The maximum number of employees to return
+     * @param comparator The order to select by
+     * @return Up to k employees, in comparator order
+     * @throws IllegalArgumentException If k is not positive or the comparator is null
+     */
+    public List<Employee<T>> topK(int k, Comparator<? super Employee<T>> comparator) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            if (k <= 0) {
+                throw new IllegalArgumentException("Number of employees must be positive");
+            }
+            if (comparator == null) {
+                throw new IllegalArgumentException("Comparator cannot be null");
+            }
+            return selectTop(snapshot(), k, comparator);
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.TOP_K, started);
+            failed("Error selecting top employees", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.TOP_K, started);
+        }
+    }
+
+    /**
+     * Gets the highest ranked employees of a leaderboard. Enabled leaderboards, and the salary
+     * leaderboard which is always maintained, are read from a live index in time proportional to n;
+     * others fall back to {@link #topK}.
+     * @param board The ranking to read
+     * @param n The maximum number of employees to return
+     * @return Up to n employees, highest value first
+     * @throws IllegalArgumentException If n is not positive or the board is null
+     */
+    public List<Employee<T>> getLeaderboard(Leaderboard board, int n) throws IllegalArgumentException {
+        long started = metrics.start();
+        try {
+            if (board == null) {
+                throw new IllegalArgumentException("Leaderboard cannot be null");
+            }
+            if (n <= 0) {
+                throw new IllegalArgumentException("Number of employees must be positive");
+            }
+            RankingIndex<T> index = leaderboards.get(board);
+            return index != null ? index.top(n) : selectTop(snapshot(), n, board.order());
+        } catch (Exception e) {
+            metrics.error(DatabaseOperation.LEADERBOARD, started);
+            failed("Error reading leaderboard", e);
+            throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.LEADERBOARD, started);
+        }
+    }
+
+    /**
+     * Starts maintaining a leaderboard on every write so that {@link #getLeaderboard} no longer
+     * scans the employees. Enabling an already enabled leaderboard does nothing.
+     * @param board The ranking to maintain
+     */
+    public void enableLeaderboard(Leaderboard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("Leaderboard cannot be null");
+        }
+        if (leaderboards.containsKey(board)) {
+            return;
+        }
+        lockAll();
+        try {
+            if (!leaderboards.containsKey(board)) {
+                RankingIndex<T> index = new RankingIndex<>(board::valueOf);
+                for (Employee<T> employee : employees.snapshot()) {
+                    index.add(employee);
+                }
+                indexes.add(index);
+                leaderboards.put(board, index);
+            }
+        } finally {
+            unlockAll();
+        }
+        auditLog.record(AuditEvent.LEADERBOARD_ENABLED, board, -1, null, null);
+    }
+
+    // Keeps the k best employees in a heap whose root is the worst of them
+    static <T> List<Employee<T>> selectTop(Iterable<Employee<T>> source, int k,
+                                           Comparator<? super Employee<T>> comparator) {
+        PriorityQueue<Employee<T>> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, comparator.reversed());
+        for (Employee<T> employee : source) {
+            if (heap.size() < k) {
+                heap.add(employee);
+            } else if (comparator.compare(employee, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(employee);
+            }
+        }
+        List<Employee<T>> selected = new ArrayList<>(heap);
+        selected.sort(comparator);
+        return selected;
+    }
+
     /**
      * Calculates the average salary of employees in a specific department
      * @param department The department to calculate the average salary for
@@ -372,13 +1427,85 @@ public class EmployeeDatabase <T> {
                 throw new InvalidDepartmentException("Department cannot be null or empty");
             }
 
-            return employees.values().stream()
-                    .filter(emp -> emp.getDepartment().equalsIgnoreCase(department))
-                    .mapToDouble(Employee::getSalary)
-                    .average()
-                    .orElse(0);
+            return getDepartmentStats(department).salary().average();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error calculating average salary by department", e);
+            failed("Error calculating average salary by department", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the running salary and rating aggregates of a department without scanning its employees
+     * @param department The department, compared ignoring case
+     * @return The aggregates; all zero if the department has no employees
+     * @throws InvalidDepartmentException If the department is null or empty
+     */
+    public DepartmentStats getDepartmentStats(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            throw new InvalidDepartmentException("Department cannot be null or empty");
+        }
+        DepartmentStats stats = departmentStats.get(department);
+        return stats == null ? DepartmentStats.empty(department) : stats;
+    }
+
+    /**
+     * Gets the running aggregates of every department that has employees
+     * @return The aggregates, one per department
+     */
+    public List<DepartmentStats> getAllDepartmentStats() {
+        return departmentStats.all();
+    }
+
+    /**
+     * Groups all employees and computes every aggregation of every group in a single pass. The
+     * employees are read from a snapshot, whose spliterator is split and aggregated in parallel on
+     * the common fork/join pool without copying the employees out first, e.g. headcount, average
+     * rating and payroll by department and active flag:
+     * <pre>{@code
+     * database.groupBy(e -> List.of(e.getDepartment(), e.isActive()),
+     *         Aggregation.count("headcount"),
+     *         Aggregation.avg("rating", Employee::getPerformanceRating),
+     *         Aggregation.sum("payroll", Employee::getSalary));
+     * }</pre>
+     * @param classifier Maps an employee to its group key
+     * @param aggregations The aggregations to compute per group
+     * @return The results by group key
+     */
+    public <K> Map<K, GroupResult> groupBy(Function<? super Employee<T>, ? extends K> classifier,
+                                           Aggregation... aggregations) {
+        if (classifier == null || aggregations == null) {
+            throw new IllegalArgumentException("Classifier and aggregations cannot be null");
+        }
+        return groupBy(snapshot().spliterator(), classifier, aggregations);
+    }
+
+    /**
+     * Groups a list of employees, such as a query result, as {@link #groupBy(Function, Aggregation...)} does
+     * @param source The employees to group
+     * @param classifier Maps an employee to its group key
+     * @param aggregations The aggregations to compute per group
+     * @return The results by group key
+     */
+    public <K> Map<K, GroupResult> groupBy(List<Employee<T>> source,
+                                           Function<? super Employee<T>, ? extends K> classifier,
+                                           Aggregation... aggregations) {
+        if (source == null || classifier == null || aggregations == null) {
+            throw new IllegalArgumentException("Source, classifier and aggregations cannot be null");
+        }
+        return groupBy(source.spliterator(), classifier, aggregations);
+    }
+
+    private <K> Map<K, GroupResult> groupBy(Spliterator<Employee<T>> source,
+                                            Function<? super Employee<T>, ? extends K> classifier,
+                                            Aggregation[] aggregations) {
+        try {
+            Aggregation[] requested = aggregations.clone();
+            GroupByTask<T, K> task = new GroupByTask<>(source, classifier, requested);
+            Map<K, GroupByTask.Partial> partials = source.estimateSize() <= GroupByTask.THRESHOLD
+                    ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+            return GroupByTask.finish(partials, requested);
+        } catch (Exception e) {
+            failed("Error grouping employees", e);
             throw e;
         }
     }
@@ -390,6 +1517,7 @@ public class EmployeeDatabase <T> {
      * @throws EmployeeNotFoundException If no employee with the given ID exists
      */
     public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        long started = metrics.start();
         try {
             if (employeeId == null) {
                 throw new IllegalArgumentException("Employee ID cannot be null");
@@ -401,11 +1529,15 @@ public class EmployeeDatabase <T> {
             }
             return employee;
         } catch (EmployeeNotFoundException e) {
-            logger.warning(e.getMessage());
+            metrics.error(DatabaseOperation.GET_EMPLOYEE, started);
+            auditLog.record(AuditEvent.EMPLOYEE_NOT_FOUND, employeeId, -1, null, null);
             throw e;
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error getting employee by ID", e);
+            metrics.error(DatabaseOperation.GET_EMPLOYEE, started);
+            failed("Error getting employee by ID", e);
             throw e;
+        } finally {
+            metrics.stop(DatabaseOperation.GET_EMPLOYEE, started);
         }
     }
 
@@ -417,11 +1549,138 @@ public class EmployeeDatabase <T> {
         try {
             return employees.size();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error getting employee count", e);
+            failed("Error getting employee count", e);
             throw e;
         }
     }
 
+    /**
+     * Gets the call counts and latency histograms of this database. Measuring is off until
+     * {@link DatabaseMetrics#setEnabled enabled}, and {@link DatabaseMetrics#register} publishes
+     * them over JMX.
+     * @return The metrics of this database
+     */
+    public DatabaseMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Takes a consistent point-in-time view of the employees
+     * @return A snapshot that later writes never change
+     */
+    public EmployeeSnapshot<T> snapshot() {
+        return employees.snapshot();
+    }
+
+    /**
+     * Streams every employee to a file. Rows come from a snapshot, so the export is consistent and
+     * runs without blocking writers or copying the employees into a list.
+     * @param file The file to write; existing content is replaced
+     * @param format The file format
+     * @return The number of employees written
+     * @throws IOException If the file cannot be written
+     */
+    public long exportEmployees(Path file, ExportFormat format) throws IOException {
+        return exportEmployees(snapshot(), file, format);
+    }
+
+    /**
+     * Streams employees, such as a query result, to a file
+     * @param source The employees to write
+     * @param file The file to write; existing content is replaced
+     * @param format The file format
+     * @return The number of employees written
+     * @throws IOException If the file cannot be written
+     */
+    public long exportEmployees(Iterable<Employee<T>> source, Path file, ExportFormat format) throws IOException {
+        if (source == null || file == null || format == null) {
+            throw new IllegalArgumentException("Source, file and format cannot be null");
+        }
+        try {
+            long written = EmployeeExporter.export(source, file, format);
+            auditLog.record(AuditEvent.EXPORTED, null, written, file, null);
+            return written;
+        } catch (IOException e) {
+            auditLog.record(AuditEvent.OPERATION_FAILED, file, -1, "Error exporting employees", e);
+            throw e;
+        }
+    }
+
+    // Starts or stops recording events to an audit log; null reverts to java.util.logging
+    void attachAuditLog(AuditLog log) {
+        this.auditLog = log == null ? LOGGING_AUDIT : log;
+    }
+
+    // Records a failure; the message should be a constant so nothing is built when SEVERE is off
+    private void failed(String message, Exception e) {
+        auditLog.record(AuditEvent.OPERATION_FAILED, null, -1, message, e);
+    }
+
+    // Starts or stops appending writes to a journal
+    void attachJournal(EmployeeJournal<T> journal) {
+        this.journal = journal;
+    }
+
+    // Applies a recovered employee version without validation, logging or journaling
+    void restore(Employee<T> employee) {
+        ReentrantLock lock = lockFor(employee.employeeId());
+        lock.lock();
+        try {
+            Employee<T> previous = employees.get(employee.employeeId());
+            employees.put(employee);
+            for (EmployeeIndex<T> index : indexes) {
+                if (previous == null) {
+                    index.add(employee);
+                } else {
+                    index.update(previous, employee);
+                }
+            }
+            changed(previous, employee);
+        } finally {
+            lock.unlock();
+        }
+        validDepartments.add(employee.getDepartment());
+    }
+
+    // Applies a recovered removal without logging or journaling
+    void restoreRemoval(T employeeId) {
+        ReentrantLock lock = lockFor(employeeId);
+        lock.lock();
+        try {
+            Employee<T> removed = employees.get(employeeId);
+            if (removed != null) {
+                employees.remove(employeeId);
+                for (EmployeeIndex<T> index : indexes) {
+                    index.remove(removed);
+                }
+                changed(removed, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Copies the current employees into a presized list
+    private List<Employee<T>> copyAll() {
+        EmployeeSnapshot<T> current = employees.snapshot();
+        List<Employee<T>> copy = new ArrayList<>(current.size());
+        for (Employee<T> employee : current) {
+            copy.add(employee);
+        }
+        return copy;
+    }
+
+    /**
+     * Releases the underlying store, flushing it to disk if it is durable, and withdraws the
+     * metrics from JMX
+     * @throws IOException If the store cannot be flushed or closed
+     */
+    @Override
+    public void close() throws IOException {
+        metrics.unregister();
+        employees.close();
+    }
+
     /**
      * Gets all departments
      * @return A set of all departments
@@ -430,7 +1689,7 @@ public class EmployeeDatabase <T> {
         try {
             return new HashSet<>(validDepartments);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error getting all departments", e);
+            failed("Error getting all departments", e);
             throw e;
         }
     }
@@ -446,9 +1705,9 @@ public class EmployeeDatabase <T> {
                 throw new InvalidDepartmentException("Department cannot be null or empty");
             }
             validDepartments.add(department);
-            logger.info("Department registered: " + department);
+            auditLog.record(AuditEvent.DEPARTMENT_REGISTERED, department, -1, null, null);
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error registering department", e);
+            failed("Error registering department", e);
             throw e;
         }
     }
@@ -0,0 +1,278 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams employees into a file through a reusable direct buffer. Text is encoded as UTF-8 and
+ * numbers are written digit by digit, so exporting allocates nothing per row for the usual
+ * salaries and ratings and memory use does not depend on the number of rows.
+ */
+final class EmployeeExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Longest single write: a surrogate pair, or a double rendered by Double.toString
+    private static final int MAX_TOKEN = 32;
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ExportFormat format;
+    private final byte[] digits = new byte[20];
+
+    private EmployeeExporter(FileChannel channel, ExportFormat format) {
+        this.channel = channel;
+        this.format = format;
+        this.buffer = BUFFERS.get();
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes employees to a file, replacing any existing content
+     * @param employees The employees to write
+     * @param file The file to write
+     * @param format The file format
+     * @return The number of employees written
+     * @throws IOException If the file cannot be written
+     */
+    static <T> long export(Iterable<Employee<T>> employees, Path file, ExportFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            EmployeeExporter exporter = new EmployeeExporter(channel, format);
+            if (format == ExportFormat.CSV) {
+                exporter.writeAscii(EmployeeCsv.HEADER);
+                exporter.put((byte) '\n');
+            }
+            long written = 0;
+            for (Employee<T> employee : employees) {
+                if (format == ExportFormat.CSV) {
+                    exporter.writeCsv(employee);
+                } else {
+                    exporter.writeJson(employee);
+                }
+                written++;
+            }
+            exporter.drain();
+            channel.force(false);
+            return written;
+        }
+    }
+
+    private void writeCsv(Employee<?> employee) throws IOException {
+        Object id = employee.employeeId();
+        if (isIntegral(id)) {
+            writeLong(((Number) id).longValue());
+        } else {
+            writeCsvField(String.valueOf(id));
+        }
+        put((byte) ',');
+        writeCsvField(employee.getName());
+        put((byte) ',');
+        writeCsvField(employee.getDepartment());
+        put((byte) ',');
+        writeDouble(employee.getSalary());
+        put((byte) ',');
+        writeDouble(employee.getPerformanceRating());
+        put((byte) ',');
+        writeLong(employee.getYearsOfExperience());
+        put((byte) ',');
+        writeAscii(employee.isActive() ? "true" : "false");
+        put((byte) '\n');
+    }
+
+    private void writeJson(Employee<?> employee) throws IOException {
+        Object id = employee.employeeId();
+        writeAscii("{\"id\":");
+        if (isIntegral(id)) {
+            writeLong(((Number) id).longValue());
+        } else {
+            writeJsonString(String.valueOf(id));
+        }
+        writeAscii(",\"name\":");
+        writeJsonString(employee.getName());
+        writeAscii(",\"department\":");
+        writeJsonString(employee.getDepartment());
+        writeAscii(",\"salary\":");
+        writeDouble(employee.getSalary());
+        writeAscii(",\"performanceRating\":");
+        writeDouble(employee.getPerformanceRating());
+        writeAscii(",\"yearsOfExperience\":");
+        writeLong(employee.getYearsOfExperience());
+        writeAscii(",\"isActive\":");
+        writeAscii(employee.isActive() ? "true" : "false");
+        writeAscii("}\n");
+    }
+
+    private static boolean isIntegral(Object id) {
+        return id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte;
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (!EmployeeCsv.needsQuoting(value)) {
+            writeText(value, 0, value.length());
+            return;
+        }
+        put((byte) '"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                writeText(value, start, i + 1);
+                start = i;
+            }
+        }
+        writeText(value, start, value.length());
+        put((byte) '"');
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        put((byte) '"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                writeText(value, start, i);
+                start = i + 1;
+                switch (c) {
+                    case '"' -> writeAscii("\\\"");
+                    case '\\' -> writeAscii("\\\\");
+                    case '\n' -> writeAscii("\\n");
+                    case '\r' -> writeAscii("\\r");
+                    case '\t' -> writeAscii("\\t");
+                    default -> {
+                        writeAscii("\\u00");
+                        put(hexDigit(c >> 4));
+                        put(hexDigit(c & 0xF));
+                    }
+                }
+            }
+        }
+        writeText(value, start, value.length());
+        put((byte) '"');
+    }
+
+    private static byte hexDigit(int value) {
+        return (byte) (value < 10 ? '0' + value : 'a' + value - 10);
+    }
+
+    // Encodes chars [from, to) as UTF-8
+    private void writeText(String value, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            ensure(4);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensure(MAX_TOKEN);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int pos = digits.length;
+        while (value >= 100) {
+            int pair = (int) (value % 100) * 2;
+            value /= 100;
+            digits[--pos] = DIGIT_PAIRS[pair + 1];
+            digits[--pos] = DIGIT_PAIRS[pair];
+        }
+        if (value >= 10) {
+            digits[--pos] = DIGIT_PAIRS[(int) value * 2 + 1];
+            digits[--pos] = DIGIT_PAIRS[(int) value * 2];
+        } else {
+            digits[--pos] = (byte) ('0' + value);
+        }
+        buffer.put(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * Writes whole numbers and values with at most two decimals directly, which covers salaries
+     * and ratings; anything else falls back to {@link Double#toString}, which round-trips exactly
+     */
+    private void writeDouble(double value) throws IOException {
+        if (Math.abs(value) < 1e15) {
+            long cents = Math.round(value * 100);
+            if (cents / 100.0 == value) {
+                if (cents < 0) {
+                    put((byte) '-');
+                    cents = -cents;
+                }
+                writeLong(cents / 100);
+                int fraction = (int) (cents % 100);
+                if (fraction != 0) {
+                    put((byte) '.');
+                    put(DIGIT_PAIRS[fraction * 2]);
+                    if (fraction % 10 != 0) {
+                        put(DIGIT_PAIRS[fraction * 2 + 1]);
+                    }
+                }
+                return;
+            }
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeAscii(format == ExportFormat.JSON_LINES ? "null" : Double.toString(value));
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    private void put(byte value) throws IOException {
+        ensure(1);
+        buffer.put(value);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < Math.max(bytes, MAX_TOKEN)) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
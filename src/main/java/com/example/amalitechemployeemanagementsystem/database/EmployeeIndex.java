@@ -0,0 +1,50 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Collection;
+
+/**
+ * A secondary index kept up to date by {@link EmployeeDatabase} next to the primary ID map.
+ *
+ * @param <T> Type of the employee ID
+ */
+interface EmployeeIndex<T> {
+
+    /**
+     * Adds an employee to the index
+     * @param employee The employee to index
+     */
+    void add(Employee<T> employee);
+
+    /**
+     * Adds a batch of employees to the index
+     * @param employees The employees to index
+     */
+    default void addAll(Collection<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            add(employee);
+        }
+    }
+
+    /**
+     * Removes an employee from the index, using the values it was indexed with
+     * @param employee The employee to remove
+     */
+    void remove(Employee<T> employee);
+
+    /**
+     * Replaces the indexed version of an employee with a newer one
+     * @param previous The version currently indexed
+     * @param current The version replacing it
+     */
+    default void update(Employee<T> previous, Employee<T> current) {
+        remove(previous);
+        add(current);
+    }
+
+    /**
+     * Removes every entry from the index
+     */
+    void clear();
+}
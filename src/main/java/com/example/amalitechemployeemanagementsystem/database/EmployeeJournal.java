@@ -0,0 +1,509 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Binary write-ahead journal for an {@link EmployeeDatabase}.
+ * <p>
+ * Every employee version the database publishes, and every removal, is appended to an in-memory
+ * buffer. A background thread writes the buffer to the current log segment and forces it to disk
+ * once per sync interval, so concurrent writers share a single {@code fsync} (group commit).
+ * Records are physical: the full employee or the removed ID. Replaying a record whose effect is
+ * already present therefore changes nothing.
+ * <p>
+ * Once a segment grows past the compaction threshold, the journal starts a new segment, takes an
+ * O(1) database snapshot, writes it to a snapshot file on a separate compaction thread, and
+ * deletes the older segments and snapshots. Group commits carry on while the snapshot is written,
+ * so compaction never stretches the sync interval. Recovery loads the newest snapshot and replays the segments that follow
+ * it, stopping at the first torn or corrupt record.
+ * <p>
+ * Employee IDs must be {@link Integer}, {@link Long} or {@link String}. A record is fully encoded
+ * before anything is appended, so one that cannot be written, such as a name too long for
+ * {@link DataOutput#writeUTF}, leaves the journal unchanged.
+ *
+ * @param <T> Type of the employee ID
+ */
+public final class EmployeeJournal<T> implements Closeable {
+    private static final Logger logger = Logger.getLogger(EmployeeJournal.class.getName());
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d{12})\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{12})\\.snap");
+    private static final int SNAPSHOT_MAGIC = 0x454D534E; // "EMSN"
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private static final byte INTEGER_ID = 1;
+    private static final byte LONG_ID = 2;
+    private static final byte STRING_ID = 3;
+
+    private final Path directory;
+    private final EmployeeDatabase<T> database;
+    private final long compactionThreshold;
+    private final ScheduledExecutorService background;
+    private final ExecutorService compactor;
+
+    // Guards the pending buffer; held only while encoding a record
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // Serialises writing, syncing and rotating segments
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final RecordBuffer record = new RecordBuffer();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer writing = ByteBuffer.allocate(64 * 1024);
+
+    private FileChannel segment;
+    private long segmentNumber;
+    private volatile IOException failure;
+    private volatile boolean compacting;
+    private boolean closed;
+
+    // Exposes its array so a record can be checksummed and copied without another allocation
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(128);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    private EmployeeJournal(Path directory, EmployeeDatabase<T> database, long compactionThreshold) {
+        this.directory = directory;
+        this.database = database;
+        this.compactionThreshold = compactionThreshold;
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "employee-journal"));
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "employee-journal-compaction"));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Recovers a database from a journal directory and starts journaling its writes
+     * @param directory The directory holding the snapshots and log segments
+     * @param database An empty database to recover into
+     * @param idType The type of the employee IDs: Integer, Long or String
+     * @param syncInterval How often buffered records are written and forced to disk
+     * @param compactionThreshold Segment size in bytes after which the log is rolled into a snapshot
+     * @return The journal, attached to the database
+     * @throws IOException If the journal cannot be read or a new segment cannot be created
+     * @throws IllegalArgumentException If the ID type cannot be journaled, the database is not
+     * empty or the sync interval is not positive
+     */
+    public static <T> EmployeeJournal<T> open(Path directory, EmployeeDatabase<T> database, Class<T> idType,
+                                              Duration syncInterval, long compactionThreshold) throws IOException {
+        if (idType != Integer.class && idType != Long.class && idType != String.class) {
+            throw new IllegalArgumentException("Journaled employee IDs must be Integer, Long or String: " + idType);
+        }
+        if (database.getEmployeeCount() != 0) {
+            throw new IllegalArgumentException("Journal must be recovered into an empty database");
+        }
+        if (syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        Files.createDirectories(directory);
+        EmployeeJournal<T> journal = new EmployeeJournal<>(directory, database, compactionThreshold);
+        long next = journal.recover();
+        journal.segmentNumber = next;
+        journal.segment = openSegment(directory, next);
+        database.attachJournal(journal);
+
+        long millis = syncInterval.toMillis() == 0 ? 1 : syncInterval.toMillis();
+        journal.background.scheduleWithFixedDelay(journal::sync, millis, millis, TimeUnit.MILLISECONDS);
+        return journal;
+    }
+
+    /**
+     * Appends a new employee version; called by the database under the employee's lock
+     * @throws UncheckedIOException If the record cannot be encoded or the journal has failed in the background
+     */
+    void logPut(Employee<T> employee) {
+        appendLock.lock();
+        try {
+            throwIfFailed();
+            record.reset();
+            recordOut.writeByte(PUT);
+            writeEmployee(recordOut, employee);
+            appendRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Appends a removal; called by the database under the employee's lock
+     * @throws UncheckedIOException If the journal has failed in the background
+     */
+    void logRemove(T employeeId) {
+        appendLock.lock();
+        try {
+            throwIfFailed();
+            record.reset();
+            recordOut.writeByte(REMOVE);
+            writeId(recordOut, employeeId);
+            appendRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every buffered record to the current segment and forces it to disk
+     * @throws IOException If writing failed now or in the background
+     */
+    public void flush() throws IOException {
+        flushLock.lock();
+        try {
+            throwIfFailed();
+            if (closed) {
+                return;
+            }
+            writePending();
+            segment.force(false);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Rolls the log into a new snapshot now, instead of waiting for the compaction threshold
+     * @throws IOException If the snapshot cannot be written
+     */
+    public void compact() throws IOException {
+        EmployeeSnapshot<T> snapshot;
+        long snapshotNumber;
+        flushLock.lock();
+        try {
+            throwIfFailed();
+            if (closed) {
+                return;
+            }
+            appendLock.lock();
+            try {
+                // Everything logged so far goes to the old segment; the snapshot covers at least that
+                writePending();
+                segment.force(false);
+                segment.close();
+                segmentNumber++;
+                segment = openSegment(directory, segmentNumber);
+                snapshot = database.snapshot();
+                snapshotNumber = segmentNumber;
+            } finally {
+                appendLock.unlock();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        writeSnapshot(snapshot, snapshotNumber);
+        deleteOlderThan(snapshotNumber);
+    }
+
+    /**
+     * Flushes the journal, stops the background thread and detaches from the database
+     * @throws IOException If the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        background.shutdown();
+        compactor.shutdown();
+        try {
+            background.awaitTermination(10, TimeUnit.SECONDS);
+            compactor.awaitTermination(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        database.attachJournal(null);
+        flushLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                writePending();
+                segment.force(false);
+            } finally {
+                closed = true;
+                segment.close();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Runs on the background thread; compaction goes to its own thread so syncs keep their interval
+    private void sync() {
+        try {
+            long size;
+            flushLock.lock();
+            try {
+                flush();
+                size = closed ? 0 : segment.size();
+            } finally {
+                flushLock.unlock();
+            }
+            if (!compacting && size >= compactionThreshold) {
+                compacting = true;
+                try {
+                    compactor.execute(() -> {
+                        try {
+                            compact();
+                        } catch (IOException e) {
+                            logger.log(Level.SEVERE, "Journal compaction failed", e);
+                        } finally {
+                            compacting = false;
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // The journal is closing
+                    compacting = false;
+                }
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+            logger.log(Level.SEVERE, "Failed to sync employee journal", e);
+        }
+    }
+
+    // Called with the append lock held
+    private void appendRecord() {
+        int length = record.size();
+        crc.reset();
+        crc.update(record.array(), 0, length);
+        if (pending.remaining() < length + 2 * Integer.BYTES) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + length + 2 * Integer.BYTES));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        pending.putInt(length);
+        pending.putInt((int) crc.getValue());
+        pending.put(record.array(), 0, length);
+    }
+
+    // Called with the flush lock held; swaps buffers so appenders only wait for the swap
+    private void writePending() throws IOException {
+        appendLock.lock();
+        try {
+            ByteBuffer full = pending;
+            pending = writing;
+            writing = full;
+        } finally {
+            appendLock.unlock();
+        }
+        writing.flip();
+        while (writing.hasRemaining()) {
+            segment.write(writing);
+        }
+        writing.clear();
+    }
+
+    private void throwIfFailed() throws IOException {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new IOException("Employee journal failed in the background", failed);
+        }
+    }
+
+    private long recover() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        long latestSnapshot = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher segmentName = SEGMENT.matcher(name);
+                Matcher snapshotName = SNAPSHOT.matcher(name);
+                if (segmentName.matches()) {
+                    segments.add(Long.parseLong(segmentName.group(1)));
+                } else if (snapshotName.matches()) {
+                    latestSnapshot = Math.max(latestSnapshot, Long.parseLong(snapshotName.group(1)));
+                }
+            }
+        }
+        segments.sort(null);
+
+        if (latestSnapshot >= 0) {
+            readSnapshot(directory.resolve(snapshotName(latestSnapshot)));
+        }
+        long last = Math.max(latestSnapshot, 0);
+        for (long number : segments) {
+            if (number >= latestSnapshot) {
+                replay(directory.resolve(segmentName(number)));
+            }
+            last = Math.max(last, number);
+        }
+        return last + 1;
+    }
+
+    private void replay(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            long remaining = Files.size(file);
+            int replayed = 0;
+            while (true) {
+                byte[] payload = readRecord(in, remaining);
+                if (payload == null) {
+                    break;
+                }
+                remaining -= 2 * Integer.BYTES + payload.length;
+                DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(payload));
+                byte type = recordIn.readByte();
+                if (type == PUT) {
+                    database.restore(readEmployee(recordIn));
+                } else if (type == REMOVE) {
+                    database.restoreRemoval(readId(recordIn));
+                } else {
+                    throw new IOException("Unknown journal record type " + type + " in " + file);
+                }
+                replayed++;
+            }
+            logger.fine("Replayed " + replayed + " records from " + file);
+        }
+    }
+
+    // Returns null at the end of the log, including a torn or corrupt final record. A length
+    // running past the end of the segment can only come from a damaged header, so it is never allocated
+    private byte[] readRecord(DataInputStream in, long remaining) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > remaining - 2 * Integer.BYTES) {
+                return null;
+            }
+            byte[] payload = in.readNBytes(length);
+            if (payload.length != length) {
+                return null;
+            }
+            crc.reset();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private void writeSnapshot(EmployeeSnapshot<T> snapshot, long number) throws IOException {
+        Path target = directory.resolve(snapshotName(number));
+        Path temporary = directory.resolve(snapshotName(number) + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(snapshot.size());
+            for (Employee<T> employee : snapshot) {
+                writeEmployee(out, employee);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void readSnapshot(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                database.restore(readEmployee(in));
+            }
+        }
+    }
+
+    private void deleteOlderThan(long number) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher segmentName = SEGMENT.matcher(name);
+                Matcher snapshotName = SNAPSHOT.matcher(name);
+                if ((segmentName.matches() && Long.parseLong(segmentName.group(1)) < number)
+                        || (snapshotName.matches() && Long.parseLong(snapshotName.group(1)) < number)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static FileChannel openSegment(Path directory, long number) throws IOException {
+        return FileChannel.open(directory.resolve(segmentName(number)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static String segmentName(long number) {
+        return String.format("journal-%012d.log", number);
+    }
+
+    private static String snapshotName(long number) {
+        return String.format("snapshot-%012d.snap", number);
+    }
+
+    private void writeEmployee(DataOutputStream out, Employee<T> employee) throws IOException {
+        writeId(out, employee.employeeId());
+        out.writeUTF(employee.getName());
+        out.writeUTF(employee.getDepartment());
+        out.writeDouble(employee.getSalary());
+        out.writeDouble(employee.getPerformanceRating());
+        out.writeInt(employee.getYearsOfExperience());
+        out.writeBoolean(employee.isActive());
+    }
+
+    private Employee<T> readEmployee(DataInputStream in) throws IOException {
+        return new Employee<>(readId(in), in.readUTF(), in.readUTF(), in.readDouble(),
+                in.readDouble(), in.readInt(), in.readBoolean());
+    }
+
+    private static void writeId(DataOutputStream out, Object employeeId) throws IOException {
+        if (employeeId instanceof Integer id) {
+            out.writeByte(INTEGER_ID);
+            out.writeInt(id);
+        } else if (employeeId instanceof Long id) {
+            out.writeByte(LONG_ID);
+            out.writeLong(id);
+        } else if (employeeId instanceof String id) {
+            out.writeByte(STRING_ID);
+            out.writeUTF(id);
+        } else {
+            throw new IllegalArgumentException("Unsupported employee ID type: " + employeeId.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T readId(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return (T) switch (type) {
+            case INTEGER_ID -> (Object) in.readInt();
+            case LONG_ID -> (Object) in.readLong();
+            case STRING_ID -> in.readUTF();
+            default -> throw new IOException("Unknown employee ID type " + type);
+        };
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeValidator;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+/**
+ * An immutable set of field changes applied to one employee in a single call through
+ * {@link EmployeeDatabase#applyPatch}. Only the fields set on the builder are changed.
+ */
+public final class EmployeePatch {
+    private static final int NAME = 1;
+    private static final int DEPARTMENT = 1 << 1;
+    private static final int SALARY = 1 << 2;
+    private static final int PERFORMANCE_RATING = 1 << 3;
+    private static final int YEARS_OF_EXPERIENCE = 1 << 4;
+    private static final int ACTIVE = 1 << 5;
+
+    private final int fields;
+    private final String name;
+    private final String department;
+    private final double salary;
+    private final double performanceRating;
+    private final int yearsOfExperience;
+    private final boolean active;
+
+    private EmployeePatch(Builder builder) {
+        this.fields = builder.fields;
+        this.name = builder.name;
+        this.department = builder.department;
+        this.salary = builder.salary;
+        this.performanceRating = builder.performanceRating;
+        this.yearsOfExperience = builder.yearsOfExperience;
+        this.active = builder.active;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a patch that sets every field to the values of an employee, as an edit form would
+     * @param employee The employee holding the new values
+     * @return A patch covering all editable fields
+     */
+    public static EmployeePatch of(Employee<?> employee) {
+        return builder()
+                .name(employee.getName())
+                .department(employee.getDepartment())
+                .salary(employee.getSalary())
+                .performanceRating(employee.getPerformanceRating())
+                .yearsOfExperience(employee.getYearsOfExperience())
+                .active(employee.isActive())
+                .build();
+    }
+
+    // Translates a single named field update, checking the value's type before it is unboxed
+    static EmployeePatch forField(String field, Object value) throws InvalidSalaryException, InvalidDepartmentException {
+        Builder builder = builder();
+        switch (field.toLowerCase()) {
+            case "name" -> builder.name((String) value);
+            case "department" -> builder.department((String) value);
+            case "salary" -> {
+                EmployeeValidator.validateSalary((Double) value);
+                builder.salary((Double) value);
+            }
+            case "performancerating" -> {
+                EmployeeValidator.validatePerformanceRating((Double) value);
+                builder.performanceRating((Double) value);
+            }
+            case "yearsofexperience" -> {
+                EmployeeValidator.validateYearsOfExperience((Integer) value);
+                builder.yearsOfExperience((Integer) value);
+            }
+            case "isactive" -> {
+                if (value == null) {
+                    throw new IllegalArgumentException("Active flag cannot be null");
+                }
+                builder.active((Boolean) value);
+            }
+            default -> throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return Whether the patch changes nothing
+     */
+    public boolean isEmpty() {
+        return fields == 0;
+    }
+
+    /**
+     * @return Whether the patch changes the department
+     */
+    public boolean changesDepartment() {
+        return (fields & DEPARTMENT) != 0;
+    }
+
+    String department() {
+        return department;
+    }
+
+    /**
+     * Validates every field set on the patch
+     * @throws InvalidSalaryException If the salary is negative
+     * @throws InvalidDepartmentException If the department is empty
+     */
+    void validate() throws InvalidSalaryException, InvalidDepartmentException {
+        if ((fields & NAME) != 0) {
+            EmployeeValidator.validateName(name);
+        }
+        if ((fields & DEPARTMENT) != 0) {
+            EmployeeValidator.validateDepartment(department);
+        }
+        if ((fields & SALARY) != 0) {
+            EmployeeValidator.validateSalary(salary);
+        }
+        if ((fields & PERFORMANCE_RATING) != 0) {
+            EmployeeValidator.validatePerformanceRating(performanceRating);
+        }
+        if ((fields & YEARS_OF_EXPERIENCE) != 0) {
+            EmployeeValidator.validateYearsOfExperience(yearsOfExperience);
+        }
+    }
+
+    // Whether applying the patch would change any field of the employee
+    boolean changes(Employee<?> employee) {
+        return (fields & NAME) != 0 && !name.equals(employee.getName())
+                || (fields & DEPARTMENT) != 0 && !department.equals(employee.getDepartment())
+                || (fields & SALARY) != 0 && Double.compare(salary, employee.getSalary()) != 0
+                || (fields & PERFORMANCE_RATING) != 0
+                        && Double.compare(performanceRating, employee.getPerformanceRating()) != 0
+                || (fields & YEARS_OF_EXPERIENCE) != 0 && yearsOfExperience != employee.getYearsOfExperience()
+                || (fields & ACTIVE) != 0 && active != employee.isActive();
+    }
+
+    // Derives the patched version of an employee, leaving the original untouched
+    <T> Employee<T> applyTo(Employee<T> employee) {
+        Employee<T> patched = new Employee<>(employee);
+        if ((fields & NAME) != 0) {
+            patched.setName(name);
+        }
+        if ((fields & DEPARTMENT) != 0) {
+            patched.setDepartment(department);
+        }
+        if ((fields & SALARY) != 0) {
+            patched.setSalary(salary);
+        }
+        if ((fields & PERFORMANCE_RATING) != 0) {
+            patched.setPerformanceRating(performanceRating);
+        }
+        if ((fields & YEARS_OF_EXPERIENCE) != 0) {
+            patched.setYearsOfExperience(yearsOfExperience);
+        }
+        if ((fields & ACTIVE) != 0) {
+            patched.setActive(active);
+        }
+        return patched;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("EmployeePatch{");
+        if ((fields & NAME) != 0) {
+            text.append("name=").append(name).append(", ");
+        }
+        if ((fields & DEPARTMENT) != 0) {
+            text.append("department=").append(department).append(", ");
+        }
+        if ((fields & SALARY) != 0) {
+            text.append("salary=").append(salary).append(", ");
+        }
+        if ((fields & PERFORMANCE_RATING) != 0) {
+            text.append("performanceRating=").append(performanceRating).append(", ");
+        }
+        if ((fields & YEARS_OF_EXPERIENCE) != 0) {
+            text.append("yearsOfExperience=").append(yearsOfExperience).append(", ");
+        }
+        if ((fields & ACTIVE) != 0) {
+            text.append("isActive=").append(active).append(", ");
+        }
+        if (fields != 0) {
+            text.setLength(text.length() - 2);
+        }
+        return text.append('}').toString();
+    }
+
+    /**
+     * Collects field changes; setting a field twice keeps the last value
+     */
+    public static final class Builder {
+        private int fields;
+        private String name;
+        private String department;
+        private double salary;
+        private double performanceRating;
+        private int yearsOfExperience;
+        private boolean active;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            fields |= NAME;
+            return this;
+        }
+
+        public Builder department(String department) {
+            this.department = department;
+            fields |= DEPARTMENT;
+            return this;
+        }
+
+        public Builder salary(double salary) {
+            this.salary = salary;
+            fields |= SALARY;
+            return this;
+        }
+
+        public Builder performanceRating(double performanceRating) {
+            this.performanceRating = performanceRating;
+            fields |= PERFORMANCE_RATING;
+            return this;
+        }
+
+        public Builder yearsOfExperience(int yearsOfExperience) {
+            this.yearsOfExperience = yearsOfExperience;
+            fields |= YEARS_OF_EXPERIENCE;
+            return this;
+        }
+
+        public Builder active(boolean active) {
+            this.active = active;
+            fields |= ACTIVE;
+            return this;
+        }
+
+        public EmployeePatch build() {
+            return new EmployeePatch(this);
+        }
+    }
+}
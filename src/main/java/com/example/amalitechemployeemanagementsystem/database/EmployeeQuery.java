@@ -0,0 +1,194 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of an employee search, run with {@link EmployeeDatabase#query} and
+ * inspected with {@link EmployeeDatabase#explain}. All criteria must match; unset criteria match
+ * everyone.
+ * <pre>{@code
+ * EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder()
+ *         .department("IT")
+ *         .salaryBetween(50000, 90000)
+ *         .minRating(4.0)
+ *         .active(true)
+ *         .orderBy(new EmployeeSalaryComparator<>())
+ *         .limit(20)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> Type of the employee ID
+ */
+public final class EmployeeQuery<T> {
+    final String department;
+    final String nameContains;
+    final Double minSalary;
+    final Double maxSalary;
+    final Double minRating;
+    final Integer minExperience;
+    final Boolean active;
+    final Predicate<Employee<T>> where;
+    final Comparator<? super Employee<T>> order;
+    final int offset;
+    final int limit;
+
+    private EmployeeQuery(Builder<T> builder) {
+        this.department = builder.department;
+        this.nameContains = builder.nameContains;
+        this.minSalary = builder.minSalary;
+        this.maxSalary = builder.maxSalary;
+        this.minRating = builder.minRating;
+        this.minExperience = builder.minExperience;
+        this.active = builder.active;
+        this.where = builder.where;
+        this.order = builder.order;
+        this.offset = builder.offset;
+        this.limit = builder.limit;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    double salaryFrom() {
+        return minSalary == null ? Double.NEGATIVE_INFINITY : minSalary;
+    }
+
+    double salaryTo() {
+        return maxSalary == null ? Double.POSITIVE_INFINITY : maxSalary;
+    }
+
+    /**
+     * Collects query criteria; setting a criterion twice keeps the last value
+     * @param <T> Type of the employee ID
+     */
+    public static final class Builder<T> {
+        private String department;
+        private String nameContains;
+        private Double minSalary;
+        private Double maxSalary;
+        private Double minRating;
+        private Integer minExperience;
+        private Boolean active;
+        private Predicate<Employee<T>> where;
+        private Comparator<? super Employee<T>> order;
+        private int offset;
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param department The department, compared ignoring case
+         */
+        public Builder<T> department(String department) {
+            if (department == null || department.trim().isEmpty()) {
+                throw new IllegalArgumentException("Department cannot be null or empty");
+            }
+            this.department = department;
+            return this;
+        }
+
+        /**
+         * @param text Text the name must contain, ignoring case
+         */
+        public Builder<T> nameContains(String text) {
+            if (text == null || text.trim().isEmpty()) {
+                throw new IllegalArgumentException("Search text cannot be null or empty");
+            }
+            this.nameContains = text;
+            return this;
+        }
+
+        /**
+         * @param minSalary The minimum salary, inclusive
+         * @param maxSalary The maximum salary, inclusive
+         */
+        public Builder<T> salaryBetween(double minSalary, double maxSalary) {
+            if (minSalary > maxSalary) {
+                throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
+            }
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+            return this;
+        }
+
+        public Builder<T> minSalary(double minSalary) {
+            this.minSalary = minSalary;
+            return this;
+        }
+
+        public Builder<T> maxSalary(double maxSalary) {
+            this.maxSalary = maxSalary;
+            return this;
+        }
+
+        public Builder<T> minRating(double minRating) {
+            if (minRating < 0 || minRating > 5) {
+                throw new IllegalArgumentException("Rating must be between 0 and 5");
+            }
+            this.minRating = minRating;
+            return this;
+        }
+
+        public Builder<T> minExperience(int minExperience) {
+            if (minExperience < 0) {
+                throw new IllegalArgumentException("Years of experience cannot be negative");
+            }
+            this.minExperience = minExperience;
+            return this;
+        }
+
+        public Builder<T> active(boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        /**
+         * Adds an arbitrary condition. It can never drive an index, so it is always checked per candidate.
+         * @param predicate The condition
+         */
+        public Builder<T> where(Predicate<Employee<T>> predicate) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("Predicate cannot be null");
+            }
+            this.where = this.where == null ? predicate : this.where.and(predicate);
+            return this;
+        }
+
+        public Builder<T> orderBy(Comparator<? super Employee<T>> order) {
+            this.order = order;
+            return this;
+        }
+
+        public Builder<T> offset(int offset) {
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset cannot be negative");
+            }
+            this.offset = offset;
+            return this;
+        }
+
+        public Builder<T> limit(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be positive");
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public EmployeeQuery<T> build() {
+            if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+                throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
+            }
+            return new EmployeeQuery<>(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A consistent, read-only point-in-time view of an {@link EmployeeDatabase}.
+ * Writes made after the snapshot was taken are never visible through it.
+ *
+ * @param <T> Type of the employee ID
+ */
+public interface EmployeeSnapshot<T> extends Iterable<Employee<T>> {
+
+    /**
+     * Gets the number of employees in the snapshot
+     * @return The number of employees
+     */
+    int size();
+
+    /**
+     * Gets an employee by their ID
+     * @param employeeId The ID of the employee
+     * @return The employee, or null if the snapshot does not contain it
+     */
+    Employee<T> get(T employeeId);
+
+    /**
+     * Creates a spliterator over the snapshot. The default wraps {@link #iterator()} and splits
+     * poorly; stores override it to split their own structure.
+     * @return A SIZED spliterator over the snapshot
+     */
+    @Override
+    default Spliterator<Employee<T>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Streams the employees of the snapshot
+     * @return A sequential stream over the snapshot
+     */
+    default Stream<Employee<T>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Streams the employees of the snapshot in parallel
+     * @return A parallel stream over the snapshot
+     */
+    default Stream<Employee<T>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Primary ID to employee storage behind an {@link EmployeeDatabase}.
+ * Reads may run concurrently with writes. The database serialises writes to the same ID,
+ * but writes to different IDs may arrive concurrently.
+ *
+ * @param <T> Type of the employee ID
+ */
+interface EmployeeStore<T> extends Closeable {
+
+    /**
+     * Gets an employee by their ID
+     * @param employeeId The ID of the employee
+     * @return The stored employee, or null if absent
+     */
+    Employee<T> get(T employeeId);
+
+    /**
+     * Stores an employee, replacing any previous version with the same ID
+     * @param employee The employee to store
+     */
+    void put(Employee<T> employee);
+
+    /**
+     * Removes an employee
+     * @param employeeId The ID of the employee to remove
+     */
+    void remove(T employeeId);
+
+    /**
+     * Gets the number of stored employees
+     * @return The number of employees
+     */
+    int size();
+
+    /**
+     * Prepares the store for a number of additional employees; stores that cannot presize ignore it
+     * @param additional The number of employees about to be added
+     */
+    default void reserve(int additional) {
+    }
+
+    /**
+     * Takes a consistent point-in-time view of the stored employees
+     * @return A snapshot that later writes never change
+     */
+    EmployeeSnapshot<T> snapshot();
+
+    /**
+     * Releases the store; in-memory stores hold nothing to release
+     * @throws IOException If a durable store cannot be flushed or closed
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+/**
+ * File formats supported by {@link EmployeeDatabase#exportEmployees}
+ */
+public enum ExportFormat {
+    /** Comma separated values with a header line, readable by {@link EmployeeDatabase#loadEmployees} */
+    CSV,
+    /** One JSON object per line */
+    JSON_LINES
+}
@@ -0,0 +1,155 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Fork/join group-by over a spliterator of employees, such as the one of a snapshot, so the
+ * employees are never copied out first. The spliterator is split until its pieces are small;
+ * each leaf accumulates its piece into private per-group partial aggregates in a single pass, and
+ * partials are merged pairwise as the tasks join, so no accumulator is ever shared between threads.
+ *
+ * @param <T> Type of the employee ID
+ * @param <K> Type of the group key
+ */
+final class GroupByTask<T, K> extends RecursiveTask<Map<K, GroupByTask.Partial>> {
+    // Below this many employees a piece is cheaper to aggregate than to split
+    static final int THRESHOLD = 4096;
+
+    private final Spliterator<Employee<T>> employees;
+    private final Function<? super Employee<T>, ? extends K> classifier;
+    private final Aggregation[] aggregations;
+
+    GroupByTask(Spliterator<Employee<T>> employees,
+                Function<? super Employee<T>, ? extends K> classifier, Aggregation[] aggregations) {
+        this.employees = employees;
+        this.classifier = classifier;
+        this.aggregations = aggregations;
+    }
+
+    @Override
+    protected Map<K, Partial> compute() {
+        Spliterator<Employee<T>> prefix;
+        if (employees.estimateSize() <= THRESHOLD || (prefix = employees.trySplit()) == null) {
+            return accumulate();
+        }
+        GroupByTask<T, K> left = new GroupByTask<>(prefix, classifier, aggregations);
+        GroupByTask<T, K> right = new GroupByTask<>(employees, classifier, aggregations);
+        left.fork();
+        Map<K, Partial> merged = right.compute();
+        for (Map.Entry<K, Partial> entry : left.join().entrySet()) {
+            merged.merge(entry.getKey(), entry.getValue(), Partial::merge);
+        }
+        return merged;
+    }
+
+    private Map<K, Partial> accumulate() {
+        Map<K, Partial> groups = new HashMap<>();
+        employees.forEachRemaining(employee ->
+                groups.computeIfAbsent(classifier.apply(employee), key -> new Partial(aggregations)).add(employee));
+        return groups;
+    }
+
+    /**
+     * Turns merged partials into results
+     * @param partials The merged partials by group
+     * @param aggregations The requested aggregations
+     * @return The results by group
+     */
+    static <K> Map<K, GroupResult> finish(Map<K, Partial> partials, Aggregation[] aggregations) {
+        Map<K, GroupResult> results = new HashMap<>(Math.max(16, partials.size() * 4 / 3 + 1));
+        for (Map.Entry<K, Partial> entry : partials.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().finish(aggregations));
+        }
+        return results;
+    }
+
+    // Mergeable running state of every aggregation for one group
+    static final class Partial {
+        private final Aggregation[] aggregations;
+        private final double[] sums;
+        private final double[] mins;
+        private final double[] maxs;
+        // Percentile inputs, kept unsorted until the group is finished
+        private final double[][] values;
+        private long count;
+
+        Partial(Aggregation[] aggregations) {
+            this.aggregations = aggregations;
+            int n = aggregations.length;
+            sums = new double[n];
+            mins = new double[n];
+            maxs = new double[n];
+            values = new double[n][];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            for (int i = 0; i < n; i++) {
+                if (aggregations[i].kind() == Aggregation.Kind.PERCENTILE) {
+                    values[i] = new double[16];
+                }
+            }
+        }
+
+        void add(Employee<?> employee) {
+            int position = (int) count;
+            count++;
+            for (int i = 0; i < aggregations.length; i++) {
+                Aggregation aggregation = aggregations[i];
+                switch (aggregation.kind()) {
+                    case COUNT -> {
+                    }
+                    case SUM, AVG -> sums[i] += aggregation.valueOf(employee);
+                    case MIN -> mins[i] = Math.min(mins[i], aggregation.valueOf(employee));
+                    case MAX -> maxs[i] = Math.max(maxs[i], aggregation.valueOf(employee));
+                    case PERCENTILE -> {
+                        if (position == values[i].length) {
+                            values[i] = Arrays.copyOf(values[i], position * 2);
+                        }
+                        values[i][position] = aggregation.valueOf(employee);
+                    }
+                }
+            }
+        }
+
+        Partial merge(Partial other) {
+            for (int i = 0; i < aggregations.length; i++) {
+                sums[i] += other.sums[i];
+                mins[i] = Math.min(mins[i], other.mins[i]);
+                maxs[i] = Math.max(maxs[i], other.maxs[i]);
+                if (values[i] != null) {
+                    double[] combined = Arrays.copyOf(values[i], (int) (count + other.count));
+                    System.arraycopy(other.values[i], 0, combined, (int) count, (int) other.count);
+                    values[i] = combined;
+                }
+            }
+            count += other.count;
+            return this;
+        }
+
+        GroupResult finish(Aggregation[] requested) {
+            double[] results = new double[requested.length];
+            for (int i = 0; i < requested.length; i++) {
+                results[i] = switch (requested[i].kind()) {
+                    case COUNT -> count;
+                    case SUM -> sums[i];
+                    case AVG -> sums[i] / count;
+                    case MIN -> mins[i];
+                    case MAX -> maxs[i];
+                    case PERCENTILE -> percentile(values[i], (int) count, requested[i].percentile());
+                };
+            }
+            return new GroupResult(requested, results, count);
+        }
+
+        private static double percentile(double[] values, int size, double percentile) {
+            Arrays.sort(values, 0, size);
+            double rank = percentile / 100 * (size - 1);
+            int lower = (int) Math.floor(rank);
+            int upper = Math.min(lower + 1, size - 1);
+            return values[lower] + (rank - lower) * (values[upper] - values[lower]);
+        }
+    }
+}
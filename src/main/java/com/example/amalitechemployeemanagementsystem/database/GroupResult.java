@@ -0,0 +1,65 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregates of one group produced by {@link EmployeeDatabase#groupBy}, in the order the
+ * aggregations were requested.
+ */
+public final class GroupResult {
+    private final Aggregation[] aggregations;
+    private final double[] values;
+    private final long count;
+
+    GroupResult(Aggregation[] aggregations, double[] values, long count) {
+        this.aggregations = aggregations;
+        this.values = values;
+        this.count = count;
+    }
+
+    /**
+     * @return The number of employees in the group
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @param index The position of the aggregation in the request
+     * @return Its value
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param name The name of a requested aggregation
+     * @return Its value
+     * @throws IllegalArgumentException If no aggregation has the name
+     */
+    public double get(String name) {
+        for (int i = 0; i < aggregations.length; i++) {
+            if (aggregations[i].name().equals(name)) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown aggregation: " + name);
+    }
+
+    /**
+     * @return Aggregation names mapped to their values, in request order
+     */
+    public Map<String, Double> asMap() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (int i = 0; i < aggregations.length; i++) {
+            map.put(aggregations[i].name(), values[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "GroupResult" + asMap();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@link EmployeeDatabase} specialised for {@code int} IDs.
+ * Employees are stored in an open-addressing table of primitive keys instead of a map of boxed
+ * {@link Integer} keys, and {@link #getEmployee(int)} looks an employee up without boxing.
+ */
+public class IntEmployeeDatabase extends EmployeeDatabase<Integer> {
+    private final LongKeyEmployeeStore<Integer> store;
+
+    public IntEmployeeDatabase() {
+        this(new LongKeyEmployeeStore<>(Integer::longValue));
+    }
+
+    private IntEmployeeDatabase(LongKeyEmployeeStore<Integer> store) {
+        super(store);
+        this.store = store;
+    }
+
+    private IntEmployeeDatabase(MappedEmployeeStore<Integer> store) {
+        super(store);
+        this.store = store.memory();
+    }
+
+    /**
+     * Opens a database persisted in memory-mapped files, creating it if it does not exist yet.
+     * Close the database to force pending writes to disk. Every stored employee is read into
+     * memory and indexed, so opening takes time proportional to the number of employees.
+     * @param directory The directory holding the database files
+     * @return The database, holding every previously stored employee
+     * @throws IOException If the files cannot be opened or are not database files
+     */
+    public static IntEmployeeDatabase open(Path directory) throws IOException {
+        return new IntEmployeeDatabase(MappedEmployeeStore.open(directory, Integer::longValue, key -> (int) key));
+    }
+
+    /**
+     * Gets an employee by their ID without boxing it
+     * @param employeeId The ID of the employee to retrieve
+     * @return The employee
+     * @throws EmployeeNotFoundException If no employee with the given ID exists
+     */
+    public Employee<Integer> getEmployee(int employeeId) throws EmployeeNotFoundException {
+        Employee<Integer> employee = store.get(employeeId);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("No employee found with ID: " + employeeId);
+        }
+        return employee;
+    }
+}
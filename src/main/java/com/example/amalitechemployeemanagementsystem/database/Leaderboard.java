@@ -0,0 +1,30 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Rankings served by {@link EmployeeDatabase#getLeaderboard}, highest value first
+ */
+public enum Leaderboard {
+    SALARY(Employee::getSalary),
+    PERFORMANCE_RATING(Employee::getPerformanceRating),
+    EXPERIENCE(Employee::getYearsOfExperience);
+
+    private final ToDoubleFunction<Employee<?>> field;
+
+    Leaderboard(ToDoubleFunction<Employee<?>> field) {
+        this.field = field;
+    }
+
+    double valueOf(Employee<?> employee) {
+        return field.applyAsDouble(employee);
+    }
+
+    // Orders employees highest value first, the order a leaderboard is read in
+    <T> Comparator<Employee<T>> order() {
+        return Comparator.comparingDouble((Employee<T> employee) -> field.applyAsDouble(employee)).reversed();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@link EmployeeDatabase} specialised for {@code long} IDs.
+ * Employees are stored in an open-addressing table of primitive keys instead of a map of boxed
+ * {@link Long} keys, and {@link #getEmployee(long)} looks an employee up without boxing.
+ */
+public class LongEmployeeDatabase extends EmployeeDatabase<Long> {
+    private final LongKeyEmployeeStore<Long> store;
+
+    public LongEmployeeDatabase() {
+        this(new LongKeyEmployeeStore<>(Long::longValue));
+    }
+
+    private LongEmployeeDatabase(LongKeyEmployeeStore<Long> store) {
+        super(store);
+        this.store = store;
+    }
+
+    private LongEmployeeDatabase(MappedEmployeeStore<Long> store) {
+        super(store);
+        this.store = store.memory();
+    }
+
+    /**
+     * Opens a database persisted in memory-mapped files, creating it if it does not exist yet.
+     * Close the database to force pending writes to disk. Every stored employee is read into
+     * memory and indexed, so opening takes time proportional to the number of employees.
+     * @param directory The directory holding the database files
+     * @return The database, holding every previously stored employee
+     * @throws IOException If the files cannot be opened or are not database files
+     */
+    public static LongEmployeeDatabase open(Path directory) throws IOException {
+        return new LongEmployeeDatabase(MappedEmployeeStore.open(directory, Long::longValue, key -> key));
+    }
+
+    /**
+     * Gets an employee by their ID without boxing it
+     * @param employeeId The ID of the employee to retrieve
+     * @return The employee
+     * @throws EmployeeNotFoundException If no employee with the given ID exists
+     */
+    public Employee<Long> getEmployee(long employeeId) throws EmployeeNotFoundException {
+        Employee<Long> employee = store.get(employeeId);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("No employee found with ID: " + employeeId);
+        }
+        return employee;
+    }
+}
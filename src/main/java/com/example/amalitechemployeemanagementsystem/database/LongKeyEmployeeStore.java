@@ -0,0 +1,356 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Store for integral IDs backed by an open-addressing table of primitive {@code long} keys.
+ * Lookups hash the primitive key and probe two flat arrays, avoiding the per-entry node and
+ * boxed key of a {@link java.util.HashMap}.
+ * <p>
+ * Writes are serialised by a {@link StampedLock} and lookups use optimistic reads. The table is
+ * split into chunks of {@value #CHUNK} slots. A snapshot freezes the current table in O(1); the
+ * next write shares its chunks and copies only a chunk it actually changes, so a write after a
+ * snapshot costs one chunk rather than the whole table.
+ *
+ * @param <T> Type of the employee ID, mapped one-to-one onto a long
+ */
+class LongKeyEmployeeStore<T> implements EmployeeStore<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK = 1 << CHUNK_BITS;
+
+    private final ToLongFunction<T> keyOf;
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    /*
+     * A table is never changed once it has been handed to a snapshot, and a chunk shared with a
+     * frozen table is copied before it is written. An empty slot holds a null value.
+     */
+    private static final class Table {
+        final long[][] keys;
+        final Employee<?>[][] values;
+        final int mask;
+        // Chunks this table may write in place; the others are shared with a frozen table
+        final boolean[] owned;
+        volatile int size;
+        boolean frozen;
+
+        Table(int capacity) {
+            int chunks = Math.max(1, capacity >>> CHUNK_BITS);
+            int length = Math.min(capacity, CHUNK);
+            keys = new long[chunks][length];
+            values = new Employee<?>[chunks][length];
+            mask = capacity - 1;
+            owned = new boolean[chunks];
+            Arrays.fill(owned, true);
+        }
+
+        Table(Table other) {
+            keys = other.keys.clone();
+            values = other.values.clone();
+            mask = other.mask;
+            owned = new boolean[keys.length];
+            size = other.size;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        long key(int slot) {
+            return keys[slot >>> CHUNK_BITS][slot & (CHUNK - 1)];
+        }
+
+        Employee<?> value(int slot) {
+            return values[slot >>> CHUNK_BITS][slot & (CHUNK - 1)];
+        }
+
+        void set(int slot, long key, Employee<?> value) {
+            int chunk = slot >>> CHUNK_BITS;
+            if (!owned[chunk]) {
+                keys[chunk] = keys[chunk].clone();
+                values[chunk] = values[chunk].clone();
+                owned[chunk] = true;
+            }
+            keys[chunk][slot & (CHUNK - 1)] = key;
+            values[chunk][slot & (CHUNK - 1)] = value;
+        }
+
+        Employee<?> find(long key) {
+            for (int slot = slot(key); value(slot) != null; slot = (slot + 1) & mask) {
+                if (key(slot) == key) {
+                    return value(slot);
+                }
+            }
+            return null;
+        }
+    }
+
+    LongKeyEmployeeStore(ToLongFunction<T> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    @Override
+    public Employee<T> get(T employeeId) {
+        return get(keyOf.applyAsLong(employeeId));
+    }
+
+    /**
+     * Gets an employee by the primitive form of their ID
+     * @param key The ID as a long
+     * @return The stored employee, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    Employee<T> get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        Employee<?> employee = table.find(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                employee = table.find(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return (Employee<T>) employee;
+    }
+
+    @Override
+    public void put(Employee<T> employee) {
+        long key = keyOf.applyAsLong(employee.employeeId());
+        long stamp = lock.writeLock();
+        try {
+            Table current = table.size + 1 > table.capacity() * LOAD_FACTOR
+                    ? resize(table, table.capacity() * 2) : writableTable();
+            int slot = current.slot(key);
+            while (current.value(slot) != null && current.key(slot) != key) {
+                slot = (slot + 1) & current.mask;
+            }
+            boolean added = current.value(slot) == null;
+            current.set(slot, key, employee);
+            if (added) {
+                current.size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(T employeeId) {
+        long key = keyOf.applyAsLong(employeeId);
+        long stamp = lock.writeLock();
+        try {
+            if (table.find(key) == null) {
+                return;
+            }
+            Table current = writableTable();
+            int slot = current.slot(key);
+            while (current.key(slot) != key || current.value(slot) == null) {
+                slot = (slot + 1) & current.mask;
+            }
+            // Backward-shift deletion keeps every probe chain unbroken without tombstones
+            int hole = slot;
+            for (int next = (hole + 1) & current.mask; current.value(next) != null; next = (next + 1) & current.mask) {
+                int home = current.slot(current.key(next));
+                if (((next - home) & current.mask) >= ((next - hole) & current.mask)) {
+                    current.set(hole, current.key(next), current.value(next));
+                    hole = next;
+                }
+            }
+            current.set(hole, 0, null);
+            current.size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void reserve(int additional) {
+        long stamp = lock.writeLock();
+        try {
+            long required = (long) ((table.size + (long) additional) / LOAD_FACTOR) + 1;
+            if (required > table.capacity() && required <= 1 << 30) {
+                resize(table, Integer.highestOneBit((int) required - 1) << 1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public EmployeeSnapshot<T> snapshot() {
+        long stamp = lock.readLock();
+        try {
+            Table frozen = table;
+            frozen.frozen = true;
+            return new TableSnapshot<>(frozen, keyOf);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Called with the write lock held
+    private Table writableTable() {
+        Table current = table;
+        if (current.frozen) {
+            current = new Table(current);
+            table = current;
+        }
+        return current;
+    }
+
+    // Called with the write lock held
+    private Table resize(Table old, int capacity) {
+        Table resized = new Table(capacity);
+        for (int i = 0; i < old.capacity(); i++) {
+            if (old.value(i) != null) {
+                int slot = resized.slot(old.key(i));
+                while (resized.value(slot) != null) {
+                    slot = (slot + 1) & resized.mask;
+                }
+                resized.set(slot, old.key(i), old.value(i));
+            }
+        }
+        resized.size = old.size;
+        table = resized;
+        return resized;
+    }
+
+    private record TableSnapshot<T>(Table table, ToLongFunction<T> keyOf) implements EmployeeSnapshot<T> {
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Employee<T> get(T employeeId) {
+            return (Employee<T>) table.find(keyOf.applyAsLong(employeeId));
+        }
+
+        @Override
+        public Iterator<Employee<T>> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                private int advance(int from) {
+                    while (from < table.capacity() && table.value(from) == null) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return slot < table.capacity();
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Employee<T> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Employee<T> employee = (Employee<T>) table.value(slot);
+                    slot = advance(slot + 1);
+                    return employee;
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<Employee<T>> spliterator() {
+            return new SlotSpliterator<>(table, 0, table.capacity(), table.size, Spliterator.SIZED);
+        }
+    }
+
+    // Splits a frozen table by slot range; only the whole table knows its exact size
+    private static final class SlotSpliterator<T> implements Spliterator<Employee<T>> {
+        private static final int BASE = Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+        private final Table table;
+        private int slot;
+        private final int end;
+        private long estimate;
+        private int sized;
+
+        SlotSpliterator(Table table, int slot, int end, long estimate, int sized) {
+            this.table = table;
+            this.slot = slot;
+            this.end = end;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Employee<T>> action) {
+            while (slot < end) {
+                Employee<?> employee = table.value(slot++);
+                if (employee != null) {
+                    estimate = Math.max(0, estimate - 1);
+                    action.accept((Employee<T>) employee);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super Employee<T>> action) {
+            for (; slot < end; slot++) {
+                Employee<?> employee = table.value(slot);
+                if (employee != null) {
+                    action.accept((Employee<T>) employee);
+                }
+            }
+            estimate = 0;
+        }
+
+        @Override
+        public Spliterator<Employee<T>> trySplit() {
+            int middle = (slot + end) >>> 1;
+            if (middle - slot < 64) {
+                return null;
+            }
+            long half = estimate / 2;
+            Spliterator<Employee<T>> prefix = new SlotSpliterator<>(table, slot, middle, half, 0);
+            slot = middle;
+            estimate -= half;
+            sized = 0;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return BASE | sized;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Durable store laying employees out as fixed-width records in a memory-mapped file, with names
+ * and departments in a separate memory-mapped string heap.
+ * <p>
+ * Reads and snapshots are served by an in-memory {@link LongKeyEmployeeStore}; every write is
+ * mirrored into the mapped records, which the OS page cache writes back. {@link #close()} forces
+ * both files to disk.
+ * <p>
+ * Opening an existing store is one sequential pass over the mapped records that materialises
+ * every employee in memory, and the owning {@link EmployeeDatabase} then builds its secondary
+ * indexes from them. Indexes are not persisted, so opening takes time proportional to the number
+ * of employees; it is not a lazy open.
+ * <p>
+ * Strings no longer referenced, after a rename, a remove or the last use of a department, are
+ * freed and their space reused by later strings. A freed block is only handed out again after
+ * both files have been forced, so a crash never leaves a durable record pointing at a block that
+ * was overwritten. Free space is rebuilt from the live records on open.
+ * <p>
+ * The record file layout is a {@value #HEADER_SIZE}-byte header followed by
+ * {@value #RECORD_SIZE}-byte records: id, salary, rating, experience, flags, and the string heap
+ * offsets of the name and department. Removed records are reused by later inserts.
+ * Each mapped file is limited to 2 GB.
+ *
+ * @param <T> Type of the employee ID, mapped one-to-one onto a long
+ */
+class MappedEmployeeStore<T> implements EmployeeStore<T>, Closeable {
+    static final String RECORDS_FILE = "employees.dat";
+    static final String STRINGS_FILE = "strings.dat";
+
+    private static final int RECORDS_MAGIC = 0x454D5052; // "EMPR"
+    private static final int STRINGS_MAGIC = 0x454D5053; // "EMPS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 48;
+    private static final int INITIAL_RECORDS = 1024;
+    private static final int INITIAL_HEAP = 64 * 1024;
+    private static final long HEAP_START = 16;
+    // Freed string bytes held back before both files are forced and the space is reused
+    private static final long QUARANTINE_LIMIT = 256 * 1024;
+
+    // Record field offsets
+    private static final int ID = 0;
+    private static final int SALARY = 8;
+    private static final int RATING = 16;
+    private static final int EXPERIENCE = 24;
+    private static final int FLAGS = 28;
+    private static final int NAME = 32;
+    private static final int DEPARTMENT = 40;
+
+    private static final byte LIVE = 1;
+    private static final byte ACTIVE = 2;
+
+    // Header field offsets
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_SIZE = 8;
+    private static final int HEADER_HIGH_WATER = 12;
+    private static final int HEAP_END = 8;
+
+    private final ToLongFunction<T> keyOf;
+    private final LongKeyEmployeeStore<T> memory;
+    private final FileChannel recordChannel;
+    private final FileChannel stringChannel;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private MappedByteBuffer records;
+    private MappedByteBuffer strings;
+    private int highWater;
+    private long heapEnd;
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    // Departments repeat heavily, so each distinct one is written to the heap once
+    private final Map<String, Long> departmentRefs = new HashMap<>();
+    private final Map<Long, Integer> departmentUses = new HashMap<>();
+    // Reusable heap space, by offset for coalescing and by size for allocation
+    private final NavigableMap<Long, Integer> freeByOffset = new TreeMap<>();
+    private final NavigableSet<Extent> freeBySize = new TreeSet<>(
+            Comparator.comparingInt(Extent::size).thenComparingLong(Extent::offset));
+    private final List<Extent> quarantined = new ArrayList<>();
+    private long quarantinedBytes;
+
+    // A block of string heap: a length prefix followed by the UTF-8 bytes
+    private record Extent(long offset, int size) {
+    }
+
+    private MappedEmployeeStore(Path directory, ToLongFunction<T> keyOf) throws IOException {
+        this.keyOf = keyOf;
+        this.memory = new LongKeyEmployeeStore<>(keyOf);
+        Files.createDirectories(directory);
+        recordChannel = FileChannel.open(directory.resolve(RECORDS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        stringChannel = FileChannel.open(directory.resolve(STRINGS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Opens a store in a directory, creating its files if they do not exist yet
+     * @param directory The directory holding the store files
+     * @param keyOf Maps an ID onto its long key
+     * @param idOf Maps a long key back onto the ID
+     * @return The opened store, with every stored employee loaded
+     * @throws IOException If the files cannot be opened or are not store files
+     */
+    static <T> MappedEmployeeStore<T> open(Path directory, ToLongFunction<T> keyOf, LongFunction<T> idOf) throws IOException {
+        MappedEmployeeStore<T> store = new MappedEmployeeStore<>(directory, keyOf);
+        try {
+            store.load(idOf);
+        } catch (IOException | RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    LongKeyEmployeeStore<T> memory() {
+        return memory;
+    }
+
+    private void load(LongFunction<T> idOf) throws IOException {
+        boolean fresh = recordChannel.size() == 0;
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(recordChannel.size(), HEADER_SIZE + (long) INITIAL_RECORDS * RECORD_SIZE));
+        strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(stringChannel.size(), INITIAL_HEAP));
+
+        if (fresh) {
+            records.putInt(HEADER_MAGIC, RECORDS_MAGIC);
+            records.putInt(HEADER_VERSION, FORMAT_VERSION);
+            records.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+            records.putInt(HEADER_HIGH_WATER, 0);
+            strings.putInt(HEADER_MAGIC, STRINGS_MAGIC);
+            strings.putLong(HEAP_END, HEAP_START);
+        } else if (records.getInt(HEADER_MAGIC) != RECORDS_MAGIC || strings.getInt(HEADER_MAGIC) != STRINGS_MAGIC
+                || records.getInt(HEADER_VERSION) != FORMAT_VERSION || records.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IOException("Not an employee store, or an unsupported format version");
+        }
+        highWater = records.getInt(HEADER_HIGH_WATER);
+        heapEnd = strings.getLong(HEAP_END);
+
+        Map<Long, String> departments = new HashMap<>();
+        NavigableMap<Long, Integer> liveBlocks = new TreeMap<>();
+        for (int slot = 0; slot < highWater; slot++) {
+            int base = offset(slot);
+            byte flags = records.get(base + FLAGS);
+            if ((flags & LIVE) == 0) {
+                freeSlots.push(slot);
+                continue;
+            }
+            long key = records.getLong(base + ID);
+            long nameRef = records.getLong(base + NAME);
+            long departmentRef = records.getLong(base + DEPARTMENT);
+            String department = departments.computeIfAbsent(departmentRef, this::readString);
+            departmentRefs.putIfAbsent(department, departmentRef);
+            departmentUses.merge(departmentRef, 1, Integer::sum);
+            liveBlocks.put(nameRef, blockSize(nameRef));
+            liveBlocks.put(departmentRef, blockSize(departmentRef));
+            memory.put(new Employee<>(idOf.apply(key), readString(nameRef), department,
+                    records.getDouble(base + SALARY), records.getDouble(base + RATING),
+                    records.getInt(base + EXPERIENCE), (flags & ACTIVE) != 0));
+            slots.put(key, slot);
+        }
+
+        // Everything between live blocks is free; nothing durable refers to it
+        long end = HEAP_START;
+        for (Map.Entry<Long, Integer> block : liveBlocks.entrySet()) {
+            if (block.getKey() > end) {
+                addFree(end, (int) (block.getKey() - end));
+            }
+            end = Math.max(end, block.getKey() + block.getValue());
+        }
+        if (end < heapEnd) {
+            addFree(end, (int) (heapEnd - end));
+        }
+    }
+
+    @Override
+    public Employee<T> get(T employeeId) {
+        return memory.get(employeeId);
+    }
+
+    @Override
+    public void put(Employee<T> employee) {
+        long key = keyOf.applyAsLong(employee.employeeId());
+        writeLock.lock();
+        try {
+            Employee<T> previous = memory.get(employee.employeeId());
+            Integer slot = slots.get(key);
+            boolean existing = slot != null;
+            long previousName = existing ? records.getLong(offset(slot) + NAME) : -1;
+            long previousDepartment = existing ? records.getLong(offset(slot) + DEPARTMENT) : -1;
+
+            // Write the strings and claim a slot before anything refers to them, so a failure leaves no trace
+            long nameRef = previous != null && previous.getName().equals(employee.getName()) ? previousName : -1;
+            Long departmentRef = departmentRefs.get(employee.getDepartment());
+            boolean newName = nameRef == -1;
+            boolean newDepartment = departmentRef == null;
+            try {
+                if (newName) {
+                    nameRef = writeString(employee.getName());
+                }
+                if (newDepartment) {
+                    departmentRef = writeString(employee.getDepartment());
+                }
+                if (!existing) {
+                    slot = freeSlots.isEmpty() ? allocateSlot() : freeSlots.pop();
+                }
+            } catch (IOException e) {
+                if (newName && nameRef != -1) {
+                    freeString(nameRef);
+                }
+                if (newDepartment && departmentRef != null) {
+                    freeString(departmentRef);
+                }
+                throw new IllegalStateException("Failed to write employee " + employee.employeeId(), e);
+            }
+
+            if (newDepartment) {
+                departmentRefs.put(employee.getDepartment(), departmentRef);
+            }
+            if (departmentRef != previousDepartment) {
+                departmentUses.merge(departmentRef, 1, Integer::sum);
+            }
+            int base = offset(slot);
+            records.putLong(base + ID, key);
+            records.putDouble(base + SALARY, employee.getSalary());
+            records.putDouble(base + RATING, employee.getPerformanceRating());
+            records.putInt(base + EXPERIENCE, employee.getYearsOfExperience());
+            records.putLong(base + NAME, nameRef);
+            records.putLong(base + DEPARTMENT, departmentRef);
+            // Flags last, so a record only becomes live once its fields are written
+            records.put(base + FLAGS, (byte) (LIVE | (employee.isActive() ? ACTIVE : 0)));
+            slots.put(key, slot);
+            memory.put(employee);
+            if (existing && nameRef != previousName) {
+                freeString(previousName);
+            }
+            if (existing && departmentRef != previousDepartment) {
+                releaseDepartment(previousDepartment);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(T employeeId) {
+        long key = keyOf.applyAsLong(employeeId);
+        writeLock.lock();
+        try {
+            Integer slot = slots.remove(key);
+            if (slot != null) {
+                int base = offset(slot);
+                records.put(base + FLAGS, (byte) 0);
+                freeSlots.push(slot);
+                freeString(records.getLong(base + NAME));
+                releaseDepartment(records.getLong(base + DEPARTMENT));
+            }
+            memory.remove(employeeId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void reserve(int additional) {
+        memory.reserve(additional);
+    }
+
+    @Override
+    public int size() {
+        return memory.size();
+    }
+
+    @Override
+    public EmployeeSnapshot<T> snapshot() {
+        return memory.snapshot();
+    }
+
+    /**
+     * Forces both mapped files to disk and closes them
+     * @throws IOException If the files cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (records != null) {
+                records.force();
+                strings.force();
+            }
+        } finally {
+            writeLock.unlock();
+            try {
+                recordChannel.close();
+            } finally {
+                stringChannel.close();
+            }
+        }
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    // Called with the write lock held
+    private int allocateSlot() throws IOException {
+        int slot = highWater;
+        long required = (long) offset(slot + 1);
+        if (required > records.capacity()) {
+            long capacity = Math.max(required, 2L * records.capacity());
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IOException("Employee record file is full");
+            }
+            records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        highWater++;
+        records.putInt(HEADER_HIGH_WATER, highWater);
+        return slot;
+    }
+
+    // Called with the write lock held; returns the heap offset of the stored string
+    private long writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int size = Integer.BYTES + bytes.length;
+        long offset;
+        Extent free = freeBySize.ceiling(new Extent(Long.MIN_VALUE, size));
+        if (free != null) {
+            removeFree(free);
+            offset = free.offset();
+            if (free.size() > size) {
+                addFree(offset + size, free.size() - size);
+            }
+        } else {
+            offset = heapEnd;
+            long required = offset + size;
+            if (required > strings.capacity()) {
+                long capacity = Math.max(required, 2L * strings.capacity());
+                if (capacity > Integer.MAX_VALUE) {
+                    throw new IOException("Employee string heap is full");
+                }
+                strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+            heapEnd = required;
+            strings.putLong(HEAP_END, heapEnd);
+        }
+        strings.putInt((int) offset, bytes.length);
+        strings.put((int) offset + Integer.BYTES, bytes);
+        return offset;
+    }
+
+    // Called with the write lock held, once no record refers to the block any more
+    private void freeString(long offset) {
+        Extent extent = new Extent(offset, blockSize(offset));
+        quarantined.add(extent);
+        quarantinedBytes += extent.size();
+        if (quarantinedBytes >= QUARANTINE_LIMIT) {
+            // Once forced, no durable record can still refer to the quarantined blocks
+            records.force();
+            strings.force();
+            for (Extent freed : quarantined) {
+                addFree(freed.offset(), freed.size());
+            }
+            quarantined.clear();
+            quarantinedBytes = 0;
+        }
+    }
+
+    // Called with the write lock held
+    private void releaseDepartment(long offset) {
+        if (departmentUses.merge(offset, -1, Integer::sum) > 0) {
+            return;
+        }
+        departmentUses.remove(offset);
+        departmentRefs.values().remove(offset);
+        freeString(offset);
+    }
+
+    // Adds a free block, merging it with free neighbours and giving space at the end back to the heap
+    private void addFree(long offset, int size) {
+        Map.Entry<Long, Integer> before = freeByOffset.floorEntry(offset);
+        if (before != null && before.getKey() + before.getValue() == offset) {
+            removeFree(new Extent(before.getKey(), before.getValue()));
+            offset = before.getKey();
+            size += before.getValue();
+        }
+        Integer after = freeByOffset.get(offset + size);
+        if (after != null) {
+            removeFree(new Extent(offset + size, after));
+            size += after;
+        }
+        if (offset + size == heapEnd) {
+            heapEnd = offset;
+            strings.putLong(HEAP_END, heapEnd);
+            return;
+        }
+        freeByOffset.put(offset, size);
+        freeBySize.add(new Extent(offset, size));
+    }
+
+    private void removeFree(Extent extent) {
+        freeByOffset.remove(extent.offset());
+        freeBySize.remove(extent);
+    }
+
+    private int blockSize(long offset) {
+        return Integer.BYTES + strings.getInt((int) offset);
+    }
+
+    private String readString(long offset) {
+        int length = strings.getInt((int) offset);
+        byte[] bytes = new byte[length];
+        strings.get((int) offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram inverted index over lower-cased employee names for partial-match searches.
+ * Queries of at least {@value #GRAM} characters intersect the posting lists of their trigrams
+ * and verify the few remaining candidates; shorter queries scan the pre-normalised names.
+ * Posting lists hold one shared entry object per employee in flat {@link PostingList} arrays, so
+ * an employee costs a slot per trigram rather than a hash-set node and key.
+ *
+ * @param <T> Type of the employee ID
+ */
+class NameIndex<T> implements EmployeeIndex<T> {
+    private static final int GRAM = 3;
+
+    private final Map<String, PostingList<IndexedName<T>>> postings = new ConcurrentHashMap<>();
+    private final Map<T, IndexedName<T>> names = new ConcurrentHashMap<>();
+
+    // Posting lists reference the entry, so a newer version with the same name only swaps the employee
+    private static final class IndexedName<T> {
+        final String normalised;
+        volatile Employee<T> employee;
+
+        IndexedName(String normalised, Employee<T> employee) {
+            this.normalised = normalised;
+            this.employee = employee;
+        }
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        remove(employee);
+        String normalised = normalise(employee.getName());
+        IndexedName<T> indexed = new IndexedName<>(normalised, employee);
+        names.put(employee.employeeId(), indexed);
+        for (String gram : grams(normalised)) {
+            postings.compute(gram, (key, entries) -> {
+                PostingList<IndexedName<T>> posting = entries == null ? new PostingList<>() : entries;
+                posting.add(indexed);
+                return posting;
+            });
+        }
+    }
+
+    // Groups the batch by trigram so each posting list is locked and grown once
+    @Override
+    public void addAll(Collection<Employee<T>> employees) {
+        Map<String, List<IndexedName<T>>> batch = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            remove(employee);
+            String normalised = normalise(employee.getName());
+            IndexedName<T> indexed = new IndexedName<>(normalised, employee);
+            names.put(employee.employeeId(), indexed);
+            for (String gram : grams(normalised)) {
+                batch.computeIfAbsent(gram, key -> new ArrayList<>()).add(indexed);
+            }
+        }
+        batch.forEach((gram, added) -> postings.compute(gram, (key, entries) -> {
+            PostingList<IndexedName<T>> posting = entries == null ? new PostingList<>() : entries;
+            posting.addAll(added);
+            return posting;
+        }));
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        IndexedName<T> indexed = names.remove(employee.employeeId());
+        if (indexed == null) {
+            return;
+        }
+        for (String gram : grams(indexed.normalised)) {
+            postings.computeIfPresent(gram, (key, entries) -> {
+                entries.remove(indexed);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    @Override
+    public void update(Employee<T> previous, Employee<T> current) {
+        IndexedName<T> indexed = names.get(current.employeeId());
+        String normalised = normalise(current.getName());
+        if (indexed != null && indexed.normalised.equals(normalised)) {
+            indexed.employee = current;
+        } else {
+            add(current);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        names.clear();
+    }
+
+    /**
+     * Finds the employees whose name contains the given text, ignoring case
+     * @param text The text to search for
+     * @return The matching employees
+     */
+    List<Employee<T>> search(String text) {
+        String query = normalise(text);
+        List<Employee<T>> result = new ArrayList<>();
+        if (query.length() < GRAM) {
+            for (IndexedName<T> indexed : names.values()) {
+                if (indexed.normalised.contains(query)) {
+                    result.add(indexed.employee);
+                }
+            }
+            return result;
+        }
+
+        List<PostingList<IndexedName<T>>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            PostingList<IndexedName<T>> entries = postings.get(gram);
+            if (entries == null) {
+                return result;
+            }
+            lists.add(entries);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        List<PostingList<IndexedName<T>>> rest = lists.subList(1, lists.size());
+        candidates:
+        for (IndexedName<T> indexed : lists.getFirst().toList()) {
+            for (PostingList<IndexedName<T>> entries : rest) {
+                if (!entries.contains(indexed)) {
+                    continue candidates;
+                }
+            }
+            // Sharing every trigram does not guarantee they are contiguous, so confirm the match
+            Employee<T> employee = indexed.employee;
+            if (indexed.normalised.contains(query) && names.get(employee.employeeId()) == indexed) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estimates how many employees a name search has to verify
+     * @param text The text to search for
+     * @return The size of the smallest trigram posting list, or the number of indexed names
+     *         for queries too short to use trigrams
+     */
+    int estimate(String text) {
+        String query = normalise(text);
+        if (query.length() < GRAM) {
+            return names.size();
+        }
+        int smallest = Integer.MAX_VALUE;
+        for (String gram : grams(query)) {
+            PostingList<IndexedName<T>> entries = postings.get(gram);
+            if (entries == null) {
+                return 0;
+            }
+            smallest = Math.min(smallest, entries.size());
+        }
+        return smallest;
+    }
+
+    private static Set<String> grams(String normalised) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalised.length(); i++) {
+            grams.add(normalised.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalise(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Point-in-time statistics of one measured database operation, as published over JMX.
+ * Latencies are in microseconds.
+ */
+public final class OperationStatistics {
+    private final long calls;
+    private final long errors;
+    private final double meanMicros;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double p999Micros;
+    private final double maxMicros;
+
+    @ConstructorParameters({"calls", "errors", "meanMicros", "p50Micros", "p99Micros", "p999Micros", "maxMicros"})
+    public OperationStatistics(long calls, long errors, double meanMicros, double p50Micros,
+                               double p99Micros, double p999Micros, double maxMicros) {
+        this.calls = calls;
+        this.errors = errors;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * @return The number of completed calls, including failed ones
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return The number of calls that threw
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public double getP50Micros() {
+        return p50Micros;
+    }
+
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    public double getP999Micros() {
+        return p999Micros;
+    }
+
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("calls=%d errors=%d mean=%.1fus p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                calls, errors, meanMicros, p50Micros, p99Micros, p999Micros, maxMicros);
+    }
+}
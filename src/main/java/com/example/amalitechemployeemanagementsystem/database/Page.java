@@ -0,0 +1,26 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.List;
+
+/**
+ * One page of a paged query.
+ *
+ * @param items The employees on this page
+ * @param nextCursor The token fetching the following page, or null if this is the last page
+ * @param <T> Type of the employee ID
+ */
+public record Page<T>(List<Employee<T>> items, String nextCursor) {
+
+    public Page {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * @return Whether another page follows this one
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Opaque continuation tokens for keyset pagination. A token records the sort keys and ID of the
+ * last employee on a page; the next page starts strictly after that position in the ordering, so
+ * concurrent writes never make unchanged employees repeat or disappear between pages.
+ */
+final class PageCursor {
+    static final byte BY_ID = 0;
+    static final byte BY_SALARY = 1;
+    static final byte BY_PERFORMANCE = 2;
+    static final byte BY_EXPERIENCE = 3;
+    static final byte BY_SALARY_RANGE = 4;
+
+    private static final byte VERSION = 1;
+    private static final byte INTEGER_ID = 'I';
+    private static final byte LONG_ID = 'L';
+    private static final byte STRING_ID = 'S';
+
+    private PageCursor() {
+    }
+
+    /**
+     * Creates the token for the page following an employee
+     * @param last The last employee on the current page
+     * @param ordering The ordering being paged
+     * @return The token
+     * @throws IllegalArgumentException If the employee ID is not an Integer, Long or String
+     */
+    static String encode(Employee<?> last, byte ordering) {
+        Object id = last.employeeId();
+        byte[] text = id instanceof String string ? string.getBytes(StandardCharsets.UTF_8) : null;
+        ByteBuffer buffer = ByteBuffer.allocate(22 + 1 + (text != null ? text.length : 8));
+        buffer.put(VERSION).put(ordering)
+                .putDouble(last.getSalary())
+                .putDouble(last.getPerformanceRating())
+                .putInt(last.getYearsOfExperience());
+        if (id instanceof Integer value) {
+            buffer.put(INTEGER_ID).putInt(value);
+        } else if (id instanceof Long value) {
+            buffer.put(LONG_ID).putLong(value);
+        } else if (text != null) {
+            buffer.put(STRING_ID).put(text);
+        } else {
+            throw new IllegalArgumentException("Paging needs Integer, Long or String employee IDs");
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * Rebuilds the position a token points after, as an employee carrying only the sort keys and ID
+     * @param cursor The token
+     * @param ordering The ordering being paged, which must match the one the token was made for
+     * @return An employee positioned where the previous page ended
+     * @throws IllegalArgumentException If the token is malformed or belongs to another ordering
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Employee<T> decode(String cursor, byte ordering) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.get() != VERSION || buffer.get() != ordering) {
+                throw new IllegalArgumentException("Cursor belongs to a different query");
+            }
+            double salary = buffer.getDouble();
+            double rating = buffer.getDouble();
+            int years = buffer.getInt();
+            Object id = switch (buffer.get()) {
+                case INTEGER_ID -> buffer.getInt();
+                case LONG_ID -> buffer.getLong();
+                case STRING_ID -> StandardCharsets.UTF_8.decode(buffer).toString();
+                default -> throw new IllegalArgumentException("Malformed cursor");
+            };
+            return new Employee<>((T) id, "", "", salary, rating, years, false);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
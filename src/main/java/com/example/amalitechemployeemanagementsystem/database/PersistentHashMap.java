@@ -0,0 +1,426 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Immutable hash array mapped trie. Every update returns a new map sharing all untouched
+ * nodes with the old one, so holding on to a map is an O(1) point-in-time snapshot.
+ * Keys and values must not be null.
+ *
+ * @param <K> Type of the keys
+ * @param <V> Type of the values
+ */
+final class PersistentHashMap<K, V> implements Iterable<V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value mapped to a key
+     * @param key The key to look up
+     * @return The value, or null if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        return (V) root.find(0, hash(key), key);
+    }
+
+    /**
+     * Returns a map with the key mapped to the value
+     * @param key The key
+     * @param value The value
+     * @return The updated map, or this map if the key already maps to the same value
+     */
+    PersistentHashMap<K, V> put(K key, V value) {
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(0, hash(key), key, value, added);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key
+     * @param key The key to remove
+     * @return The updated map, or this map if the key was absent
+     */
+    PersistentHashMap<K, V> remove(K key) {
+        Node newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Iterates over the values of this version of the map; later updates are never visible
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(root.pairs());
+    }
+
+    /**
+     * Splits over the values of this version of the map. The whole map reports its exact size;
+     * a split divides a node's slots in half, or descends into a lone child node, and carries an
+     * estimate proportional to the slots it covers.
+     */
+    @Override
+    public Spliterator<V> spliterator() {
+        Object[] pairs = root.pairs();
+        return new ValueSpliterator<>(pairs, 0, pairs.length, size, Spliterator.SIZED);
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int index, Object value) {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static Object[] removePair(Object[] array, int pair) {
+        Object[] copy = new Object[array.length - 2];
+        System.arraycopy(array, 0, copy, 0, 2 * pair);
+        System.arraycopy(array, 2 * (pair + 1), copy, 2 * pair, copy.length - 2 * pair);
+        return copy;
+    }
+
+    /*
+     * Both node kinds store their content as key/value pairs in one array.
+     * A null key marks a pair whose value is a child node.
+     */
+    private abstract static class Node {
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        // Returns this node if the key is absent and null if the node became empty
+        abstract Node remove(int shift, int hash, Object key);
+
+        abstract Object[] pairs();
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = index(bit);
+            Object storedKey = array[2 * index];
+            Object value = array[2 * index + 1];
+            if (storedKey == null) {
+                return ((Node) value).find(shift + BITS, hash, key);
+            }
+            return key.equals(storedKey) ? value : null;
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                int count = Integer.bitCount(bitmap);
+                Object[] copy = new Object[2 * (count + 1)];
+                System.arraycopy(array, 0, copy, 0, 2 * index);
+                copy[2 * index] = key;
+                copy[2 * index + 1] = value;
+                System.arraycopy(array, 2 * index, copy, 2 * (index + 1), 2 * (count - index));
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+
+            Object storedKey = array[2 * index];
+            Object storedValue = array[2 * index + 1];
+            if (storedKey == null) {
+                Node child = ((Node) storedValue).put(shift + BITS, hash, key, value, added);
+                return child == storedValue ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, child));
+            }
+            if (key.equals(storedKey)) {
+                return value == storedValue ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, value));
+            }
+
+            added[0] = true;
+            Node child = split(shift + BITS, storedKey, storedValue, hash, key, value);
+            Object[] copy = array.clone();
+            copy[2 * index] = null;
+            copy[2 * index + 1] = child;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object storedKey = array[2 * index];
+            Object storedValue = array[2 * index + 1];
+            if (storedKey == null) {
+                Node child = ((Node) storedValue).remove(shift + BITS, hash, key);
+                if (child == storedValue) {
+                    return this;
+                }
+                if (child != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, child));
+                }
+            } else if (!key.equals(storedKey)) {
+                return this;
+            }
+            return bitmap == bit ? null : new BitmapNode(bitmap ^ bit, removePair(array, index));
+        }
+
+        @Override
+        Object[] pairs() {
+            return array;
+        }
+
+        private static Node split(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int index = indexOf(key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                // Push this node one level down next to the new key
+                BitmapNode parent = new BitmapNode(bit(this.hash, shift), new Object[]{null, this});
+                return parent.put(shift, hash, key, value, added);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return array[index + 1] == value ? this : new CollisionNode(hash, cloneAndSet(array, index + 1, value));
+            }
+            Object[] copy = new Object[array.length + 2];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0) {
+                return this;
+            }
+            return array.length == 2 ? null : new CollisionNode(hash, removePair(array, index / 2));
+        }
+
+        @Override
+        Object[] pairs() {
+            return array;
+        }
+    }
+
+    private static final class ValueIterator<V> implements Iterator<V> {
+        private final Deque<Object[]> arrays = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Object[] current;
+        private int position;
+        private Object next;
+
+        ValueIterator(Object[] rootPairs) {
+            current = rootPairs;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (current != null) {
+                if (position < current.length) {
+                    Object key = current[position];
+                    Object value = current[position + 1];
+                    position += 2;
+                    if (key != null) {
+                        next = value;
+                        return;
+                    }
+                    arrays.push(current);
+                    positions.push(position);
+                    current = ((Node) value).pairs();
+                    position = 0;
+                } else if (arrays.isEmpty()) {
+                    current = null;
+                } else {
+                    current = arrays.pop();
+                    position = positions.pop();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) next;
+            advance();
+            return value;
+        }
+    }
+
+    private static final class ValueSpliterator<V> implements Spliterator<V> {
+        private static final int BASE = Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+        private Object[] array;
+        private int position;
+        private int end;
+        private long estimate;
+        private int sized;
+        // Values of the child node currently being traversed
+        private ValueIterator<V> child;
+
+        ValueSpliterator(Object[] array, int position, int end, long estimate, int sized) {
+            this.array = array;
+            this.position = position;
+            this.end = end;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super V> action) {
+            while (child == null || !child.hasNext()) {
+                child = null;
+                if (position >= end) {
+                    return false;
+                }
+                Object key = array[position];
+                Object value = array[position + 1];
+                position += 2;
+                if (key != null) {
+                    estimate = Math.max(0, estimate - 1);
+                    action.accept((V) value);
+                    return true;
+                }
+                child = new ValueIterator<>(((Node) value).pairs());
+            }
+            estimate = Math.max(0, estimate - 1);
+            action.accept(child.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            if (child != null) {
+                return null;
+            }
+            // A node holding a single child splits that child instead
+            while (end - position == 2 && array[position] == null) {
+                array = ((Node) array[position + 1]).pairs();
+                position = 0;
+                end = array.length;
+            }
+            int pairs = (end - position) / 2;
+            if (pairs < 2) {
+                return null;
+            }
+            int middle = position + (pairs / 2) * 2;
+            long half = estimate / 2;
+            Spliterator<V> prefix = new ValueSpliterator<>(array, position, middle, half, 0);
+            position = middle;
+            estimate -= half;
+            sized = 0;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return BASE | sized;
+        }
+    }
+}
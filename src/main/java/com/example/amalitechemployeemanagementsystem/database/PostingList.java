@@ -0,0 +1,184 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Concurrent identity set stored in one open-addressing array of references, used for the
+ * posting lists of {@link NameIndex}. An entry costs a single array slot instead of the node and
+ * key object of a hash set, which matters because every employee sits in one list per trigram
+ * of their name.
+ * <p>
+ * Writes are serialised by a {@link StampedLock}; membership tests use optimistic reads.
+ *
+ * @param <E> Type of the entries, compared by identity
+ */
+final class PostingList<E> {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final StampedLock lock = new StampedLock();
+    private Object[] slots = new Object[INITIAL_CAPACITY];
+    private volatile int size;
+
+    /**
+     * @param entry The entry to add
+     */
+    void add(E entry) {
+        long stamp = lock.writeLock();
+        try {
+            if (size + 1 > slots.length * LOAD_FACTOR) {
+                resize(slots.length * 2);
+            }
+            insert(entry);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Called with the write lock held and room for the entry
+    private void insert(E entry) {
+        int slot = slot(entry, slots.length);
+        while (slots[slot] != null) {
+            if (slots[slot] == entry) {
+                return;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = entry;
+        size++;
+    }
+
+    /**
+     * Adds many entries under one lock, growing the table at most once
+     * @param entries The entries to add
+     */
+    void addAll(Collection<E> entries) {
+        long stamp = lock.writeLock();
+        try {
+            int capacity = slots.length;
+            while (size + entries.size() > capacity * LOAD_FACTOR) {
+                capacity *= 2;
+            }
+            if (capacity != slots.length) {
+                resize(capacity);
+            }
+            for (E entry : entries) {
+                insert(entry);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @param entry The entry to remove
+     */
+    void remove(E entry) {
+        long stamp = lock.writeLock();
+        try {
+            int mask = slots.length - 1;
+            int slot = slot(entry, slots.length);
+            while (slots[slot] != entry) {
+                if (slots[slot] == null) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // Backward-shift deletion, as in LongKeyEmployeeStore
+            int hole = slot;
+            for (int next = (hole + 1) & mask; slots[next] != null; next = (next + 1) & mask) {
+                int home = slot(slots[next], slots.length);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    slots[hole] = slots[next];
+                    hole = next;
+                }
+            }
+            slots[hole] = null;
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @param entry The entry to look for
+     * @return Whether the list holds the entry
+     */
+    boolean contains(E entry) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(slots, entry);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = find(slots, entry);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Copies the entries out, in no particular order
+     * @return The entries
+     */
+    @SuppressWarnings("unchecked")
+    List<E> toList() {
+        long stamp = lock.readLock();
+        try {
+            List<E> entries = new ArrayList<>(size);
+            for (Object entry : slots) {
+                if (entry != null) {
+                    entries.add((E) entry);
+                }
+            }
+            return entries;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // The probe is bounded because a concurrent writer may leave it looking at a moving table
+    private static boolean find(Object[] table, Object entry) {
+        int mask = table.length - 1;
+        int slot = slot(entry, table.length);
+        for (int probes = 0; probes < table.length && table[slot] != null; probes++) {
+            if (table[slot] == entry) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private static int slot(Object entry, int length) {
+        int hash = System.identityHashCode(entry) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    // Called with the write lock held
+    private void resize(int capacity) {
+        Object[] resized = new Object[capacity];
+        for (Object entry : slots) {
+            if (entry != null) {
+                int slot = slot(entry, capacity);
+                while (resized[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                resized[slot] = entry;
+            }
+        }
+        slots = resized;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import java.util.List;
+
+/**
+ * How {@link EmployeeDatabase#query} runs a query, as reported by {@link EmployeeDatabase#explain}.
+ *
+ * @param access The access path producing candidates, such as {@code DepartmentIndex(department=IT)}
+ * @param estimatedRows The planner's estimate of how many candidates the access path produces
+ * @param residual The criteria checked against each candidate
+ * @param ordering How results are ordered and cut, or {@code none}
+ */
+public record QueryPlan(String access, long estimatedRows, List<String> residual, String ordering) {
+
+    public QueryPlan {
+        residual = List.copyOf(residual);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(access).append(" ~").append(estimatedRows).append(" rows");
+        if (!residual.isEmpty()) {
+            text.append(" -> Filter(").append(String.join(" AND ", residual)).append(')');
+        }
+        if (!ordering.equals("none")) {
+            text.append(" -> ").append(ordering);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Chooses how to run an {@link EmployeeQuery}. Every criterion that an index can answer is
+ * costed by the number of candidates that index would produce; the cheapest one drives the scan
+ * and the remaining criteria are checked per candidate. Estimates are exact counts, cut off at the
+ * best cost found so far so that costing a wide range stays cheap.
+ *
+ * @param <T> Type of the employee ID
+ */
+final class QueryPlanner<T> {
+    private enum Access { SCAN, DEPARTMENT, NAME, SALARY, RATING, EXPERIENCE }
+
+    // One condition of a query and the index, if any, that can produce its matches
+    private record Criterion<T>(Access index, String description, Predicate<Employee<T>> test) {
+    }
+
+    private record Plan<T>(Access access, Criterion<T> driver, long estimate, List<Criterion<T>> residual) {
+    }
+
+    private final EmployeeStore<T> employees;
+    private final DepartmentIndex<T> departmentIndex;
+    private final NameIndex<T> nameIndex;
+    private final Map<Leaderboard, RankingIndex<T>> rankings;
+
+    /**
+     * @param rankings The live ranking indexes; salary is always present, others once enabled
+     */
+    QueryPlanner(EmployeeStore<T> employees, DepartmentIndex<T> departmentIndex, NameIndex<T> nameIndex,
+                 Map<Leaderboard, RankingIndex<T>> rankings) {
+        this.employees = employees;
+        this.departmentIndex = departmentIndex;
+        this.nameIndex = nameIndex;
+        this.rankings = rankings;
+    }
+
+    QueryPlan explain(EmployeeQuery<T> query) {
+        Plan<T> plan = plan(query);
+        String access = switch (plan.access()) {
+            case SCAN -> "FullScan";
+            case DEPARTMENT -> "DepartmentIndex(" + plan.driver().description() + ")";
+            case NAME -> "NameIndex(" + plan.driver().description() + ")";
+            case SALARY -> "SalaryIndex(" + plan.driver().description() + ")";
+            case RATING -> "RatingLeaderboard(" + plan.driver().description() + ")";
+            case EXPERIENCE -> "ExperienceLeaderboard(" + plan.driver().description() + ")";
+        };
+        List<String> residual = new ArrayList<>(plan.residual().size());
+        for (Criterion<T> criterion : plan.residual()) {
+            residual.add(criterion.description());
+        }
+        return new QueryPlan(access, plan.estimate(), residual, describeOrdering(query));
+    }
+
+    List<Employee<T>> execute(EmployeeQuery<T> query) {
+        Plan<T> plan = plan(query);
+        Iterable<Employee<T>> candidates = candidates(query, plan.access());
+        Predicate<Employee<T>> residual = employee -> true;
+        for (Criterion<T> criterion : plan.residual()) {
+            residual = residual.and(criterion.test());
+        }
+
+        if (query.order == null) {
+            List<Employee<T>> result = new ArrayList<>();
+            int skipped = 0;
+            for (Employee<T> employee : candidates) {
+                if (!residual.test(employee)) {
+                    continue;
+                }
+                if (skipped < query.offset) {
+                    skipped++;
+                } else if (result.size() < query.limit) {
+                    result.add(employee);
+                } else {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        List<Employee<T>> matches;
+        if (query.limit != Integer.MAX_VALUE) {
+            int keep = (int) Math.min((long) query.offset + query.limit, Integer.MAX_VALUE);
+            Predicate<Employee<T>> filter = residual;
+            matches = EmployeeDatabase.selectTop(() -> filtered(candidates, filter), keep, query.order);
+        } else {
+            matches = new ArrayList<>();
+            for (Employee<T> employee : candidates) {
+                if (residual.test(employee)) {
+                    matches.add(employee);
+                }
+            }
+            matches.sort(query.order);
+        }
+        if (query.offset >= matches.size()) {
+            return new ArrayList<>();
+        }
+        int end = (int) Math.min((long) query.offset + query.limit, matches.size());
+        return new ArrayList<>(matches.subList(query.offset, end));
+    }
+
+    private Plan<T> plan(EmployeeQuery<T> query) {
+        List<Criterion<T>> criteria = criteria(query);
+        Criterion<T> driver = null;
+        long best = employees.size();
+        for (Criterion<T> criterion : criteria) {
+            if (criterion.index() == null) {
+                continue;
+            }
+            long estimate = estimate(query, criterion.index(), best);
+            if (estimate < best) {
+                best = estimate;
+                driver = criterion;
+            }
+        }
+        List<Criterion<T>> residual = new ArrayList<>(criteria);
+        residual.remove(driver);
+        return new Plan<>(driver == null ? Access.SCAN : driver.index(), driver, best, residual);
+    }
+
+    // Criteria whose ranking is not maintained cost Long.MAX_VALUE, so they are never chosen
+    private long estimate(EmployeeQuery<T> query, Access index, long limit) {
+        return switch (index) {
+            case DEPARTMENT -> departmentIndex.count(query.department);
+            case NAME -> nameIndex.estimate(query.nameContains);
+            case SALARY -> rankings.get(Leaderboard.SALARY).count(query.salaryFrom(), query.salaryTo(), limit);
+            case RATING -> rankingCount(Leaderboard.PERFORMANCE_RATING, query.minRating, limit);
+            case EXPERIENCE -> rankingCount(Leaderboard.EXPERIENCE, query.minExperience.doubleValue(), limit);
+            case SCAN -> limit;
+        };
+    }
+
+    private long rankingCount(Leaderboard board, double min, long limit) {
+        RankingIndex<T> ranking = rankings.get(board);
+        return ranking == null ? Long.MAX_VALUE : ranking.count(min, Double.POSITIVE_INFINITY, limit);
+    }
+
+    private Iterable<Employee<T>> candidates(EmployeeQuery<T> query, Access access) {
+        return switch (access) {
+            case SCAN -> employees.snapshot();
+            case DEPARTMENT -> departmentIndex.get(query.department);
+            case NAME -> nameIndex.search(query.nameContains);
+            case SALARY -> rankings.get(Leaderboard.SALARY).range(query.salaryFrom(), query.salaryTo());
+            case RATING -> rankings.get(Leaderboard.PERFORMANCE_RATING)
+                    .range(query.minRating, Double.POSITIVE_INFINITY);
+            case EXPERIENCE -> rankings.get(Leaderboard.EXPERIENCE)
+                    .range(query.minExperience, Double.POSITIVE_INFINITY);
+        };
+    }
+
+    private static <T> Iterator<Employee<T>> filtered(Iterable<Employee<T>> candidates, Predicate<Employee<T>> filter) {
+        Iterator<Employee<T>> source = candidates.iterator();
+        return new Iterator<>() {
+            private Employee<T> next = advance();
+
+            private Employee<T> advance() {
+                while (source.hasNext()) {
+                    Employee<T> candidate = source.next();
+                    if (filter.test(candidate)) {
+                        return candidate;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Employee<T> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Employee<T> current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    private static <T> List<Criterion<T>> criteria(EmployeeQuery<T> query) {
+        List<Criterion<T>> criteria = new ArrayList<>();
+        if (query.department != null) {
+            String department = query.department.toLowerCase(Locale.ROOT);
+            criteria.add(new Criterion<>(Access.DEPARTMENT, "department=" + query.department,
+                    employee -> employee.getDepartment().toLowerCase(Locale.ROOT).equals(department)));
+        }
+        if (query.nameContains != null) {
+            String text = query.nameContains.toLowerCase(Locale.ROOT);
+            criteria.add(new Criterion<>(Access.NAME, "name contains '" + query.nameContains + "'",
+                    employee -> employee.getName().toLowerCase(Locale.ROOT).contains(text)));
+        }
+        if (query.hasSalaryRange()) {
+            double from = query.salaryFrom();
+            double to = query.salaryTo();
+            criteria.add(new Criterion<>(Access.SALARY, "salary in [" + from + ", " + to + "]",
+                    employee -> employee.getSalary() >= from && employee.getSalary() <= to));
+        }
+        if (query.minRating != null) {
+            double min = query.minRating;
+            criteria.add(new Criterion<>(Access.RATING, "rating>=" + min,
+                    employee -> employee.getPerformanceRating() >= min));
+        }
+        if (query.minExperience != null) {
+            int min = query.minExperience;
+            criteria.add(new Criterion<>(Access.EXPERIENCE, "experience>=" + min,
+                    employee -> employee.getYearsOfExperience() >= min));
+        }
+        if (query.active != null) {
+            boolean active = query.active;
+            criteria.add(new Criterion<>(null, "active=" + active, employee -> employee.isActive() == active));
+        }
+        if (query.where != null) {
+            criteria.add(new Criterion<>(null, "custom predicate", query.where));
+        }
+        return criteria;
+    }
+
+    private static String describeOrdering(EmployeeQuery<?> query) {
+        boolean limited = query.limit != Integer.MAX_VALUE;
+        String cut = (query.offset > 0 ? " offset " + query.offset : "") + (limited ? " limit " + query.limit : "");
+        if (query.order != null) {
+            return (limited ? "TopK(" + ((long) query.offset + query.limit) + ")" : "Sort") + cut;
+        }
+        return cut.isEmpty() ? "none" : "Limit" + cut;
+    }
+}
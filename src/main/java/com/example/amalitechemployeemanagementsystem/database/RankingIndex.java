@@ -0,0 +1,134 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Index ordering employees by one numeric field, such as salary, answering range and top-N
+ * queries in O(log n + k). Entries are keyed by the field value with an insertion sequence as the
+ * tie-break, because employee IDs are not required to be {@link Comparable}.
+ *
+ * @param <T> Type of the employee ID
+ */
+class RankingIndex<T> implements EmployeeIndex<T> {
+    private final ToDoubleFunction<? super Employee<T>> field;
+    private final ConcurrentNavigableMap<RankKey, Employee<T>> byValue = new ConcurrentSkipListMap<>();
+    // Key each employee was indexed under, so a value changed outside the database can still be unindexed
+    private final Map<T, RankKey> indexedKeys = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private record RankKey(double value, long sequence) implements Comparable<RankKey> {
+        @Override
+        public int compareTo(RankKey other) {
+            int byValue = Double.compare(value, other.value);
+            return byValue != 0 ? byValue : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * @param field Reads the ranked value from an employee
+     */
+    RankingIndex(ToDoubleFunction<? super Employee<T>> field) {
+        this.field = field;
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        remove(employee);
+        RankKey key = new RankKey(field.applyAsDouble(employee), sequence.getAndIncrement());
+        byValue.put(key, employee);
+        indexedKeys.put(employee.employeeId(), key);
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        RankKey key = indexedKeys.remove(employee.employeeId());
+        if (key != null) {
+            byValue.remove(key);
+        }
+    }
+
+    @Override
+    public void update(Employee<T> previous, Employee<T> current) {
+        RankKey key = indexedKeys.get(current.employeeId());
+        if (key != null && Double.compare(key.value(), field.applyAsDouble(current)) == 0) {
+            byValue.put(key, current);
+        } else {
+            add(current);
+        }
+    }
+
+    @Override
+    public void clear() {
+        byValue.clear();
+        indexedKeys.clear();
+    }
+
+    /**
+     * Gets the employees whose value lies in a range, lowest value first
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @return The matching employees
+     */
+    List<Employee<T>> range(double min, double max) {
+        RankKey from = new RankKey(min, Long.MIN_VALUE);
+        RankKey to = new RankKey(max, Long.MAX_VALUE);
+        return new ArrayList<>(byValue.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Streams the employees whose value lies in a range, lowest value first, without copying them.
+     * The stream is weakly consistent: it reflects writes made while it is traversed.
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @return A lazy stream over the matching employees
+     */
+    Stream<Employee<T>> stream(double min, double max) {
+        RankKey from = new RankKey(min, Long.MIN_VALUE);
+        RankKey to = new RankKey(max, Long.MAX_VALUE);
+        return byValue.subMap(from, true, to, true).values().stream();
+    }
+
+    /**
+     * Counts the employees whose value lies in a range, stopping early at a limit so estimating a
+     * wide range stays cheap
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @param limit The count at which to stop
+     * @return The number of matching employees, or limit if there are at least that many
+     */
+    long count(double min, double max, long limit) {
+        RankKey from = new RankKey(min, Long.MIN_VALUE);
+        RankKey to = new RankKey(max, Long.MAX_VALUE);
+        long count = 0;
+        Iterator<RankKey> keys = byValue.subMap(from, true, to, true).keySet().iterator();
+        while (count < limit && keys.hasNext()) {
+            keys.next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the employees with the highest values, highest first
+     * @param n The maximum number of employees to return
+     * @return Up to n employees
+     */
+    List<Employee<T>> top(int n) {
+        List<Employee<T>> result = new ArrayList<>(Math.min(n, indexedKeys.size()));
+        for (Employee<T> employee : byValue.descendingMap().values()) {
+            if (result.size() == n) {
+                break;
+            }
+            result.add(employee);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cached, sorted list of all employees stamped with the database version it reflects. While the
+ * version is unchanged the same immutable list is returned. After a few writes the cached order
+ * is repaired by replaying them from the {@link ChangeLog} with binary-search removes and inserts;
+ * after many, or if the log has moved on, it is rebuilt from a snapshot.
+ *
+ * @param <T> Type of the employee ID
+ */
+final class SortedView<T> {
+    private final Comparator<Employee<T>> order;
+    private final ChangeLog<T> changes;
+    private final LongSupplier currentVersion;
+    private final Supplier<EmployeeSnapshot<T>> snapshots;
+    private final ArrayList<Employee<T>> sorted = new ArrayList<>();
+    // The version of each employee held in sorted, so no employee is ever held twice
+    private final Map<T, Employee<T>> present = new HashMap<>();
+    private volatile Published<T> published;
+
+    private record Published<T>(long version, List<Employee<T>> employees) {
+    }
+
+    SortedView(Comparator<Employee<T>> order, ChangeLog<T> changes,
+               LongSupplier currentVersion, Supplier<EmployeeSnapshot<T>> snapshots) {
+        // Break ties on comparable IDs so an employee can be found by binary search
+        this.order = order.thenComparing(SortedView::compareIds);
+        this.changes = changes;
+        this.currentVersion = currentVersion;
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * @return The total order of the view: the requested order, then comparable IDs
+     */
+    Comparator<Employee<T>> order() {
+        return order;
+    }
+
+    /**
+     * @return The employees in order, as an immutable list
+     */
+    List<Employee<T>> get() {
+        long version = currentVersion.getAsLong();
+        Published<T> cached = published;
+        if (cached != null && cached.version() == version) {
+            return cached.employees();
+        }
+        synchronized (this) {
+            cached = published;
+            version = currentVersion.getAsLong();
+            if (cached != null && cached.version() == version) {
+                return cached.employees();
+            }
+            if (cached == null || !replay(cached.version(), version)) {
+                rebuild();
+            }
+            cached = new Published<>(version, List.copyOf(sorted));
+            published = cached;
+            return cached.employees();
+        }
+    }
+
+    /*
+     * A snapshot taken after reading version v contains every write up to v and possibly some
+     * later ones, so an employee may already be held in a newer version than the change being
+     * replayed. A version is therefore only removed if it is the one held, and only inserted if
+     * no version of that employee is held; the newer one stays until its own change is replayed.
+     */
+    private boolean replay(long from, long to) {
+        if (to - from > Math.max(16, sorted.size() / 16)) {
+            return false;
+        }
+        List<ChangeLog.Change<T>> pending = new ArrayList<>((int) (to - from));
+        for (long version = from + 1; version <= to; version++) {
+            ChangeLog.Change<T> change = changes.get(version);
+            if (change == null || !change.replayable()) {
+                return false;
+            }
+            pending.add(change);
+        }
+        for (ChangeLog.Change<T> change : pending) {
+            Employee<T> previous = change.previous();
+            if (previous != null && present.get(previous.employeeId()) == previous) {
+                sorted.remove(indexOf(previous));
+                present.remove(previous.employeeId());
+            }
+            Employee<T> current = change.current();
+            if (current != null && !present.containsKey(current.employeeId())) {
+                int index = Collections.binarySearch(sorted, current, order);
+                sorted.add(index < 0 ? -index - 1 : index, current);
+                present.put(current.employeeId(), current);
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        EmployeeSnapshot<T> snapshot = snapshots.get();
+        sorted.clear();
+        present.clear();
+        sorted.ensureCapacity(snapshot.size());
+        for (Employee<T> employee : snapshot) {
+            sorted.add(employee);
+            present.put(employee.employeeId(), employee);
+        }
+        sorted.sort(order);
+    }
+
+    // Finds this exact employee version, scanning the run of entries that compare equal to it
+    private int indexOf(Employee<T> employee) {
+        int index = Collections.binarySearch(sorted, employee, order);
+        if (index < 0) {
+            return -1;
+        }
+        for (int i = index; i >= 0 && order.compare(sorted.get(i), employee) == 0; i--) {
+            if (sorted.get(i) == employee) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < sorted.size() && order.compare(sorted.get(i), employee) == 0; i++) {
+            if (sorted.get(i) == employee) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareIds(Employee<?> first, Employee<?> second) {
+        Object a = first.employeeId();
+        Object b = second.employeeId();
+        if (a instanceof Comparable comparable && b != null && a.getClass() == b.getClass()) {
+            return comparable.compareTo(b);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Default store: a {@link PersistentHashMap} published through an atomic reference.
+ * Writers swap in a new trie root, so snapshots are O(1) and readers never block.
+ *
+ * @param <T> Type of the employee ID
+ */
+class TrieEmployeeStore<T> implements EmployeeStore<T> {
+    private final AtomicReference<PersistentHashMap<T, Employee<T>>> employees =
+            new AtomicReference<>(PersistentHashMap.empty());
+
+    @Override
+    public Employee<T> get(T employeeId) {
+        return employees.get().get(employeeId);
+    }
+
+    @Override
+    public void put(Employee<T> employee) {
+        employees.updateAndGet(map -> map.put(employee.employeeId(), employee));
+    }
+
+    @Override
+    public void remove(T employeeId) {
+        employees.updateAndGet(map -> map.remove(employeeId));
+    }
+
+    @Override
+    public int size() {
+        return employees.get().size();
+    }
+
+    @Override
+    public EmployeeSnapshot<T> snapshot() {
+        return new TrieSnapshot<>(employees.get());
+    }
+
+    private record TrieSnapshot<T>(PersistentHashMap<T, Employee<T>> employees) implements EmployeeSnapshot<T> {
+        @Override
+        public int size() {
+            return employees.size();
+        }
+
+        @Override
+        public Employee<T> get(T employeeId) {
+            return employees.get(employeeId);
+        }
+
+        @Override
+        public Iterator<Employee<T>> iterator() {
+            return employees.iterator();
+        }
+
+        @Override
+        public Spliterator<Employee<T>> spliterator() {
+            return employees.spliterator();
+        }
+    }
+}
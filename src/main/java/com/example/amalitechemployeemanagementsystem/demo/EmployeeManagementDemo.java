@@ -4,6 +4,8 @@ import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundE
 import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
 import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
 import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.EmployeePatch;
+import com.example.amalitechemployeemanagementsystem.database.IntEmployeeDatabase;
 import com.example.amalitechemployeemanagementsystem.model.Employee;
 
 import java.util.Iterator;
@@ -18,7 +20,7 @@ public class EmployeeManagementDemo {
 
     public static void main(String[] args) throws InvalidDepartmentException, InvalidSalaryException, EmployeeNotFoundException {
         // Create a new employee database
-        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        EmployeeDatabase<Integer> database = new IntEmployeeDatabase();
 
         // Add some employees
         System.out.println("Adding employees...");
@@ -91,8 +93,7 @@ public class EmployeeManagementDemo {
 
         // Update an employee
         System.out.println("\n--- Updating employee with ID 3 ---");
-        database.updateEmployeeDetails(3, "salary", 90000.0);
-        database.updateEmployeeDetails(3, "performanceRating", 4.7);
+        database.applyPatch(3, EmployeePatch.builder().salary(90000.0).performanceRating(4.7).build());
         System.out.println("Updated employee: " + database.getEmployee(3));
 
         // Remove an employee
@@ -0,0 +1,207 @@
+package com.example.amalitechemployeemanagementsystem.demo;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.database.DatabaseMetrics;
+import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.EmployeePatch;
+import com.example.amalitechemployeemanagementsystem.database.EmployeeQuery;
+import com.example.amalitechemployeemanagementsystem.database.IntEmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.OperationStatistics;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/*
+ * Headless load test: loads synthetic employees in bulk, then replays a weighted mix of reads,
+ * searches, updates, raises, adds and removals from several threads for a fixed time, and reports
+ * throughput per operation and the database's own latency percentiles.
+ *
+ * Arguments are key=value pairs, all optional:
+ *   employees=100000 threads=8 seconds=30 store=trie|int seed=42
+ *   mix=read:600,search:250,update:120,add:15,remove:14,raise:1
+ */
+public class LoadGenerator {
+    private static final Map<String, Integer> DEFAULT_MIX = new LinkedHashMap<>(Map.of(
+            "read", 600, "search", 250, "update", 120, "add", 15, "remove", 14, "raise", 1));
+
+    private enum Operation { READ, SEARCH, UPDATE, ADD, REMOVE, RAISE }
+
+    private final EmployeeDatabase<Integer> database;
+    private final Operation[] schedule;
+    private final String[] departments = SyntheticEmployees.departments();
+    private final String[] lastNames = SyntheticEmployees.lastNames();
+    // IDs below this have been handed out; removed ones make reads and updates miss
+    private final AtomicInteger nextId;
+    private final LongAdder[] completed = new LongAdder[Operation.values().length];
+    private final LongAdder[] missed = new LongAdder[Operation.values().length];
+
+    private LoadGenerator(EmployeeDatabase<Integer> database, int employees, Map<Operation, Integer> mix) {
+        this.database = database;
+        this.nextId = new AtomicInteger(employees);
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> slots.addAll(Collections.nCopies(weight, operation)));
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix needs at least one positive weight");
+        }
+        this.schedule = slots.toArray(new Operation[0]);
+        for (int i = 0; i < completed.length; i++) {
+            completed[i] = new LongAdder();
+            missed[i] = new LongAdder();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        int employees = Integer.parseInt(options.getOrDefault("employees", "100000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "30")));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Map<Operation, Integer> mix = parseMix(options.get("mix"));
+
+        // Misses are expected under contention; logging each one would dominate the measurement
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.OFF);
+        EmployeeDatabase<Integer> database = "int".equals(options.get("store"))
+                ? new IntEmployeeDatabase() : new EmployeeDatabase<>();
+
+        System.out.printf("Loading %,d employees...%n", employees);
+        long loadStart = System.nanoTime();
+        database.addEmployees(SyntheticEmployees.generate(employees, seed));
+        System.out.printf("Loaded in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStart));
+
+        LoadGenerator generator = new LoadGenerator(database, employees, mix);
+        System.out.printf("Running %s on %d threads for %d s%n", mix, threads, duration.toSeconds());
+        generator.run(threads, duration);
+        generator.report(duration);
+    }
+
+    private void run(int threads, Duration duration) throws InterruptedException {
+        DatabaseMetrics metrics = database.getMetrics();
+        metrics.reset();
+        metrics.setEnabled(true);
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = schedule[random.nextInt(schedule.length)];
+                    try {
+                        perform(operation, random);
+                        completed[operation.ordinal()].increment();
+                    } catch (EmployeeNotFoundException | InvalidSalaryException | InvalidDepartmentException e) {
+                        missed[operation.ordinal()].increment();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        metrics.setEnabled(false);
+    }
+
+    private void perform(Operation operation, ThreadLocalRandom random)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        int id = random.nextInt(nextId.get());
+        switch (operation) {
+            case READ -> database.getEmployee(id);
+            case SEARCH -> search(random);
+            case UPDATE -> database.applyPatch(id, EmployeePatch.builder()
+                    .salary(30000 + random.nextInt(150) * 1000)
+                    .performanceRating(random.nextInt(51) / 10.0)
+                    .build());
+            case ADD -> database.addEmployee(SyntheticEmployees.generate(nextId.getAndIncrement(), new Random(random.nextLong())));
+            case REMOVE -> database.removeEmployee(id);
+            case RAISE -> database.giveSalaryRaise(4.9, 1);
+        }
+    }
+
+    // Spreads searches over the index-backed queries a user interface would issue
+    private void search(ThreadLocalRandom random) throws InvalidDepartmentException, InvalidSalaryException {
+        switch (random.nextInt(5)) {
+            case 0 -> database.searchByDepartment(departments[random.nextInt(departments.length)]);
+            case 1 -> database.searchByName(lastNames[random.nextInt(lastNames.length)]);
+            case 2 -> {
+                double from = 30000 + random.nextInt(100) * 1000;
+                database.filterBySalaryRange(from, from + 2000);
+            }
+            case 3 -> database.getTopPaidEmployees(10);
+            default -> database.query(EmployeeQuery.<Integer>builder()
+                    .department(departments[random.nextInt(departments.length)])
+                    .minRating(4.0).active(true).limit(50).build());
+        }
+    }
+
+    private void report(Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        long total = 0;
+        System.out.printf("%n%-10s %12s %12s %10s%n", "operation", "completed", "ops/s", "misses");
+        for (Operation operation : Operation.values()) {
+            long done = completed[operation.ordinal()].sum();
+            total += done;
+            System.out.printf("%-10s %,12d %,12.0f %,10d%n", operation.name().toLowerCase(Locale.ROOT),
+                    done, done / seconds, missed[operation.ordinal()].sum());
+        }
+        System.out.printf("%-10s %,12d %,12.0f%n", "total", total, total / seconds);
+
+        System.out.printf("%n%-26s %10s %8s %10s %10s %10s %10s%n",
+                "database latency (us)", "calls", "errors", "p50", "p99", "p999", "max");
+        for (Map.Entry<String, OperationStatistics> entry : database.getMetrics().getOperations().entrySet()) {
+            OperationStatistics statistics = entry.getValue();
+            System.out.printf("%-26s %,10d %,8d %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(),
+                    statistics.getCalls(), statistics.getErrors(), statistics.getP50Micros(),
+                    statistics.getP99Micros(), statistics.getP999Micros(), statistics.getMaxMicros());
+        }
+        System.out.printf("%nEmployees at end: %,d%n", database.getEmployeeCount());
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            options.put(arg.substring(0, equals).toLowerCase(Locale.ROOT), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>(DEFAULT_MIX);
+        if (mix != null) {
+            weights.replaceAll((name, weight) -> 0);
+            for (String part : mix.split(",")) {
+                String[] pair = part.split(":");
+                if (pair.length != 2 || !weights.containsKey(pair[0].trim().toLowerCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("Expected operation:weight with operation one of "
+                            + DEFAULT_MIX.keySet() + " but got: " + part);
+                }
+                weights.put(pair[0].trim().toLowerCase(Locale.ROOT), Integer.parseInt(pair[1].trim()));
+            }
+        }
+        Map<Operation, Integer> result = new EnumMap<>(Operation.class);
+        weights.forEach((name, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative: " + name + ":" + weight);
+            }
+            result.put(Operation.valueOf(name.toUpperCase(Locale.ROOT)), weight);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.amalitechemployeemanagementsystem.demo;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic employees for load tests and benchmarks. Departments follow a skewed
+ * head count, as in a real company, so department queries see both large and small results;
+ * surnames are skewed towards common ones, so name searches return realistic numbers of matches.
+ */
+public final class SyntheticEmployees {
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Operations", "Support", "Finance",
+            "Marketing", "HR", "Legal", "Research"};
+    private static final double[] DEPARTMENT_SHARE = {0.30, 0.18, 0.14, 0.12, 0.08, 0.07, 0.05, 0.03, 0.03};
+    private static final double[] DEPARTMENT_BASE_SALARY = {95000, 70000, 60000, 45000, 80000, 65000, 60000, 110000, 100000};
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer",
+            "Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Kwame", "Ama", "Kofi", "Akosua", "Yaw", "Abena", "Chinedu", "Ngozi", "Jean",
+            "Aline", "Eric", "Grace", "Samuel", "Esther"};
+    private static final String[] LAST_NAMES = {"Smith", "Mensah", "Johnson", "Owusu", "Williams", "Boateng",
+            "Brown", "Uwimana", "Jones", "Niyonzima", "Garcia", "Asante", "Miller", "Okafor", "Davis", "Habimana",
+            "Rodriguez", "Adjei", "Martinez", "Mugisha", "Wilson", "Osei", "Anderson", "Nkurunziza", "Taylor",
+            "Appiah", "Thomas", "Ndayisaba", "Moore", "Darko", "Jackson", "Kamanzi"};
+
+    private SyntheticEmployees() {
+    }
+
+    /**
+     * Generates employees with IDs 0 to count - 1
+     * @param count The number of employees
+     * @param seed The random seed; the same seed always gives the same employees
+     * @return The employees
+     */
+    public static List<Employee<Integer>> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Employee<Integer>> employees = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            employees.add(generate(id, random));
+        }
+        return employees;
+    }
+
+    /**
+     * Generates one employee
+     * @param id The employee ID
+     * @param random The source of randomness
+     * @return The employee
+     */
+    public static Employee<Integer> generate(int id, Random random) {
+        int department = department(random.nextDouble());
+        // Squaring skews towards the front of the list: common names and junior staff dominate
+        double skew = random.nextDouble();
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[(int) (skew * skew * LAST_NAMES.length)];
+        double junior = random.nextDouble();
+        int years = (int) (junior * junior * 35);
+        double salary = Math.round(DEPARTMENT_BASE_SALARY[department] * (1 + years * 0.03)
+                * Math.exp(random.nextGaussian() * 0.2));
+        double rating = Math.round(Math.min(5, Math.max(0, 3.5 + random.nextGaussian() * 0.8)) * 10) / 10.0;
+        return new Employee<>(id, name, DEPARTMENTS[department], salary, rating, years, random.nextInt(20) != 0);
+    }
+
+    /**
+     * @return The departments generated employees belong to, largest first
+     */
+    public static String[] departments() {
+        return DEPARTMENTS.clone();
+    }
+
+    /**
+     * @return The surnames generated employees carry, most common first
+     */
+    public static String[] lastNames() {
+        return LAST_NAMES.clone();
+    }
+
+    private static int department(double draw) {
+        double cumulative = 0;
+        for (int i = 0; i < DEPARTMENT_SHARE.length; i++) {
+            cumulative += DEPARTMENT_SHARE[i];
+            if (draw < cumulative) {
+                return i;
+            }
+        }
+        return DEPARTMENT_SHARE.length - 1;
+    }
+}
@@ -24,6 +24,13 @@ private  boolean isActive;
 
     }
 
+    // Copy constructor, used to derive a new version of an employee without touching the original
+
+    public Employee(Employee<T> other) {
+        this(other.employeeId, other.name, other.department, other.salary,
+                other.performanceRating, other.yearsOfExperience, other.isActive);
+    }
+
     // setters And getters
 
     public T employeeId(){
@@ -10,9 +10,13 @@ module com.example.amalitechemployeemanagementsystem {
     requires com.almasb.fxgl.all;
     requires annotations;
     requires java.logging;
+    requires java.management;
 
     opens com.example.amalitechemployeemanagementsystem to javafx.fxml;
     exports com.example.amalitechemployeemanagementsystem;
     exports com.example.amalitechemployeemanagementsystem.controllers;
     opens com.example.amalitechemployeemanagementsystem.controllers to javafx.fxml;
+    // JMX reads the metrics MXBean and its composite types through a reflection trampoline outside
+    // java.management, so a qualified export is not enough
+    exports com.example.amalitechemployeemanagementsystem.database;
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.amalitechemployeemanagementsystem.controllers;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.database.EmployeeDatabase;
+import com.example.amalitechemployeemanagementsystem.database.Page;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchMatchesTest {
+    private static final String[] LAST_NAMES = {"Smith", "Smithers", "Small", "Jones", "Brown"};
+    private static final String[] DEPARTMENTS = {"IT", "HR", "Finance", "Facilities"};
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int id = 0; id < 1000; id++) {
+            employees.add(new Employee<>(id, "Person " + LAST_NAMES[id % LAST_NAMES.length],
+                    DEPARTMENTS[id % DEPARTMENTS.length], 50000, 4.0, 5, true));
+        }
+        database.addEmployees(employees);
+    }
+
+    @Test
+    void narrowingMatchesFullSearch() throws InvalidDepartmentException {
+        SearchMatches sm = SearchField.NAME.searchAll(database, "sm");
+        assertEquals(600, sm.employees().size());
+        assertTrue(sm.canNarrowTo(SearchField.NAME, "smit"));
+        assertFalse(sm.canNarrowTo(SearchField.NAME, "s"));
+        assertFalse(sm.canNarrowTo(SearchField.DEPARTMENT, "smit"));
+
+        SearchMatches smith = sm.narrowTo("smit");
+        assertEquals(SearchField.NAME.searchAll(database, "smit").employees(), smith.employees());
+        assertEquals(400, smith.employees().size());
+
+        SearchMatches f = SearchField.DEPARTMENT.searchAll(database, "f");
+        assertEquals(500, f.employees().size());
+        assertEquals(SearchField.DEPARTMENT.searchAll(database, "fin").employees(), f.narrowTo("fin").employees());
+    }
+
+    @Test
+    void previewStopsAtScanLimit() throws InvalidDepartmentException {
+        SearchMatches sm = SearchField.NAME.searchAll(database, "sm");
+
+        List<Employee<Integer>> preview = sm.preview("smith", 50, 200);
+        assertEquals(sm.narrowTo("smith").employees().subList(0, 50), preview);
+        // "Small" is one in three of these matches, so 50 of them take more than 100 to find
+        assertNull(sm.preview("small", 50, 100));
+        assertEquals(sm.narrowTo("smalls").employees(), sm.preview("smalls", 50, 1000));
+    }
+
+    @Test
+    void pagesCoverAllMatches() throws InvalidDepartmentException {
+        SearchMatches it = SearchField.DEPARTMENT.searchAll(database, "it");
+        List<Employee<Integer>> seen = new ArrayList<>();
+        Page<Integer> page = it.page(100, null);
+        seen.addAll(page.items());
+        while (page.hasNext()) {
+            page = it.page(100, page.nextCursor());
+            seen.addAll(page.items());
+        }
+
+        assertEquals(it.employees(), seen);
+        assertThrows(IllegalArgumentException.class, () -> it.page(100, "x"));
+    }
+}
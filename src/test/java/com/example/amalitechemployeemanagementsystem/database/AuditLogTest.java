@@ -0,0 +1,139 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsDatabaseEvents() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        Path file = directory.resolve("audit.log");
+        try (AuditLog log = AuditLog.open(file, database, Level.INFO)) {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+            database.updateEmployeeDetails(1, "salary", 80000.0);
+            database.removeEmployee(1);
+            assertThrows(EmployeeNotFoundException.class, () -> database.removeEmployee(1));
+        }
+
+        List<String> lines = Files.readAllLines(file).stream().filter(line -> !line.startsWith("\t")).toList();
+        assertTrue(lines.get(0).endsWith("INFO EMPLOYEE_ADDED id=1 John Doe"));
+        assertTrue(lines.get(1).endsWith("WARNING DUPLICATE_SKIPPED id=1 Update skipped"));
+        assertTrue(lines.get(2).contains("INFO EMPLOYEE_UPDATED id=1"));
+        assertTrue(lines.get(3).endsWith("INFO EMPLOYEE_REMOVED id=1 John Doe"));
+        assertTrue(lines.get(4).endsWith("WARNING EMPLOYEE_NOT_FOUND id=1 Removal skipped"));
+        assertTrue(lines.get(5).contains("SEVERE OPERATION_FAILED Unexpected error while removing employee"));
+        assertEquals(6, lines.size());
+    }
+
+    @Test
+    void levelGatesEvents() throws IOException, InvalidSalaryException, InvalidDepartmentException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        Path file = directory.resolve("audit.log");
+        try (AuditLog log = AuditLog.open(file, database, Level.WARNING)) {
+            assertFalse(log.isEnabled(AuditEvent.EMPLOYEE_ADDED));
+            assertTrue(log.isEnabled(AuditEvent.DUPLICATE_SKIPPED));
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.getFirst().contains("DUPLICATE_SKIPPED"));
+    }
+
+    @Test
+    void keepsEveryEventFromConcurrentWriters() throws IOException, InterruptedException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        Path file = directory.resolve("audit.log");
+        int threads = 4;
+        int perThread = 10_000;
+        try (AuditLog log = AuditLog.open(file, database, Level.INFO)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                writers.add(Thread.startVirtualThread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        log.record(AuditEvent.EMPLOYEE_ADDED, base + i, -1, null, null);
+                    }
+                }));
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(threads * perThread, lines.size());
+        assertEquals(threads * perThread, lines.stream().map(line -> line.substring(line.indexOf("id="))).distinct().count());
+    }
+
+    @Test
+    void writersParkWhileTheRingIsFull() throws IOException, InterruptedException {
+        Logger target = Logger.getAnonymousLogger();
+        target.setUseParentHandlers(false);
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicInteger written = new AtomicInteger();
+        target.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        try (AuditLog log = AuditLog.forwardingTo(target, 4)) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 20; i++) {
+                    log.record(AuditEvent.EMPLOYEE_ADDED, i, -1, null, null);
+                }
+            });
+            writer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (writer.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(Thread.State.TIMED_WAITING, writer.getState());
+
+            released.countDown();
+            writer.join(10_000);
+            assertFalse(writer.isAlive());
+        }
+
+        assertEquals(20, written.get());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarEmployeeStoreTest {
+    private ColumnarEmployeeStore<Integer> store;
+
+    @BeforeEach
+    void setUp() throws InvalidSalaryException, InvalidDepartmentException {
+        store = new ColumnarEmployeeStore<>(2);
+        store.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        store.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        store.addEmployee(new Employee<>(3, "Bob Johnson", "it", 85000, 3.9, 10, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store = null;
+    }
+
+    @Test
+    void getEmployee() throws EmployeeNotFoundException {
+        Employee<Integer> employee = store.getEmployee(3);
+
+        assertEquals("Bob Johnson", employee.getName());
+        assertEquals("it", employee.getDepartment());
+        assertEquals(85000, employee.getSalary());
+        assertEquals(3.9, employee.getPerformanceRating());
+        assertFalse(employee.isActive());
+    }
+
+    @Test
+    void removeEmployeeMovesLastRow() throws EmployeeNotFoundException {
+        store.removeEmployee(1);
+
+        assertEquals(2, store.getEmployeeCount());
+        assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee(1));
+        assertEquals("Bob Johnson", store.getEmployee(3).getName());
+        assertFalse(store.getEmployee(3).isActive());
+        assertEquals(1, store.getActiveCount());
+    }
+
+    @Test
+    void updateEmployeeDetails() throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        store.updateEmployeeDetails(2, "department", "IT");
+        store.updateEmployeeDetails(2, "salary", 95000.0);
+
+        assertEquals(85000, store.getAverageSalaryByDepartment("IT"));
+        assertThrows(IllegalArgumentException.class, () -> store.updateEmployeeDetails(2, "salary", "high"));
+    }
+
+    @Test
+    void filterByMinimumRating() {
+        List<Employee<Integer>> filtered = store.filterByMinimumRating(4.5);
+
+        assertEquals(2, filtered.size());
+    }
+
+    @Test
+    void filterBySalaryRange() throws InvalidSalaryException {
+        List<Employee<Integer>> filtered = store.filterBySalaryRange(70000, 80000);
+
+        assertEquals(1, filtered.size());
+        assertEquals("John Doe", filtered.getFirst().getName());
+    }
+
+    @Test
+    void giveSalaryRaise() throws EmployeeNotFoundException {
+        assertEquals(2, store.giveSalaryRaise(4.0, 10));
+
+        assertEquals(82500, store.getEmployee(1).getSalary());
+        assertEquals(85000, store.getEmployee(3).getSalary());
+    }
+
+    @Test
+    void getAverageSalaryByDepartment() throws InvalidDepartmentException {
+        assertEquals(80000, store.getAverageSalaryByDepartment("IT"));
+        assertEquals(0, store.getAverageSalaryByDepartment("Finance"));
+    }
+
+    @Test
+    void getTotalPayroll() {
+        assertEquals(225000, store.getTotalPayroll());
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseMetricsTest {
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+    }
+
+    @Test
+    void countsLeaderboardErrorsAndStreams() throws InvalidSalaryException, InvalidDepartmentException {
+        database.getMetrics().setEnabled(true);
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        assertThrows(IllegalArgumentException.class, () -> database.getLeaderboard(Leaderboard.SALARY, 0));
+        assertThrows(IllegalArgumentException.class, () -> database.getLeaderboard(null, 1));
+        assertEquals(1, database.streamByDepartment("IT").count());
+        assertEquals(1, database.streamBySalary().count());
+        assertThrows(InvalidSalaryException.class, () -> database.streamBySalaryRange(-1, 10));
+
+        Map<String, OperationStatistics> operations = database.getMetrics().getOperations();
+        assertEquals(2, operations.get("LEADERBOARD").getCalls());
+        assertEquals(2, operations.get("LEADERBOARD").getErrors());
+        assertEquals(1, operations.get("STREAM_BY_DEPARTMENT").getCalls());
+        assertEquals(1, operations.get("STREAM_BY_SALARY").getCalls());
+        assertNull(operations.get("SORT_BY_SALARY"));
+        assertEquals(1, operations.get("STREAM_BY_SALARY_RANGE").getErrors());
+    }
+
+    @Test
+    void countsRejectedFieldUpdates() throws InvalidSalaryException, InvalidDepartmentException {
+        database.getMetrics().setEnabled(true);
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        assertThrows(IllegalArgumentException.class, () -> database.updateEmployeeDetails(1, "nickname", "JD"));
+        assertThrows(IllegalArgumentException.class, () -> database.updateEmployeeDetails(1, "salary", "lots"));
+        assertThrows(InvalidSalaryException.class, () -> database.updateEmployeeDetails(1, "salary", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> database.applyPatch(1, null));
+
+        OperationStatistics updates = database.getMetrics().getOperations().get("UPDATE_EMPLOYEE");
+        assertEquals(4, updates.getCalls());
+        assertEquals(4, updates.getErrors());
+    }
+
+    @Test
+    void disabledMetricsRecordNothing() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.sortBySalary();
+
+        assertFalse(database.getMetrics().isEnabled());
+        assertTrue(database.getMetrics().getOperations().isEmpty());
+    }
+
+    @Test
+    void countsCallsAndErrors() throws InvalidSalaryException, InvalidDepartmentException {
+        database.getMetrics().setEnabled(true);
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        database.searchByDepartment("IT");
+        assertThrows(EmployeeNotFoundException.class, () -> database.removeEmployee(3));
+        database.getLeaderboard(Leaderboard.EXPERIENCE, 1);
+
+        Map<String, OperationStatistics> operations = database.getMetrics().getOperations();
+        assertEquals(2, operations.get("ADD_EMPLOYEE").getCalls());
+        assertEquals(0, operations.get("ADD_EMPLOYEE").getErrors());
+        assertEquals(1, operations.get("SEARCH_BY_DEPARTMENT").getCalls());
+        assertEquals(1, operations.get("REMOVE_EMPLOYEE").getErrors());
+        assertEquals(1, operations.get("LEADERBOARD").getCalls());
+        assertNull(operations.get("TOP_K"));
+
+        database.getMetrics().reset();
+        assertTrue(database.getMetrics().getOperations().isEmpty());
+    }
+
+    @Test
+    void histogramPercentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(3);
+        for (int i = 0; i < 100_000; i++) {
+            histogram.record(1_000 + random.nextInt(1_000_000));
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(501_000, histogram.percentile(0.5), 501_000 * 0.07);
+        assertEquals(991_000, histogram.percentile(0.99), 991_000 * 0.07);
+        assertTrue(histogram.percentile(0.999) <= histogram.max());
+        for (long value : new long[] {0, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE / 4}) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(LatencyHistogram.lowerBound(bucket) <= value);
+            assertEquals(bucket, LatencyHistogram.bucket(LatencyHistogram.lowerBound(bucket)));
+        }
+    }
+
+    @Test
+    void publishedOverJmx() throws JMException, IOException, InvalidSalaryException, InvalidDepartmentException {
+        database.getMetrics().register("metrics-test");
+        database.getMetrics().setEnabled(true);
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.example.amalitechemployeemanagementsystem:type=EmployeeDatabase,name=\"metrics-test\"");
+
+        TabularData operations = (TabularData) server.getAttribute(name, "Operations");
+        CompositeData add = (CompositeData) operations.get(new Object[] {"ADD_EMPLOYEE"}).get("value");
+        assertEquals(1L, add.get("calls"));
+        server.setAttribute(name, new Attribute("Enabled", false));
+        assertFalse(database.getMetrics().isEnabled());
+
+        database.close();
+        assertFalse(server.isRegistered(name));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeDatabaseConcurrencyTest {
+    private static final int THREADS = 8;
+
+    private EmployeeDatabase<Integer> database;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        // Keep per-row INFO logging out of the contention being measured
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.WARNING);
+        database = createDatabase();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    EmployeeDatabase<Integer> createDatabase() {
+        return new EmployeeDatabase<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        database = null;
+    }
+
+    @Test
+    void concurrentRaisesAreNotLost() throws Exception {
+        int employeeCount = 200;
+        int raisesPerThread = 10;
+        for (int id = 0; id < employeeCount; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, "IT", 1, 4.5, 1, true));
+        }
+
+        // Every raise doubles the salary, so a lost update leaves a smaller power of two
+        runConcurrently(thread -> {
+            for (int i = 0; i < raisesPerThread; i++) {
+                assertEquals(employeeCount, database.giveSalaryRaise(4.0, 100));
+            }
+        });
+
+        double expected = Math.pow(2, THREADS * raisesPerThread);
+        for (int id = 0; id < employeeCount; id++) {
+            assertEquals(expected, database.getEmployee(id).getSalary());
+        }
+        assertEquals(employeeCount, database.filterBySalaryRange(expected, expected).size());
+        assertEquals(employeeCount, database.getTopPaidEmployees(employeeCount * 2).size());
+    }
+
+    @Test
+    void concurrentAddsAndRemovesKeepIndexesConsistent() throws Exception {
+        int perThread = 2_000;
+
+        runConcurrently(thread -> {
+            int base = thread * perThread;
+            for (int id = base; id < base + perThread; id++) {
+                database.addEmployee(new Employee<>(id, "Worker " + id, thread % 2 == 0 ? "IT" : "HR", 50000 + id, 4.0, 3, true));
+            }
+            for (int id = base; id < base + perThread; id += 2) {
+                database.removeEmployee(id);
+            }
+        });
+
+        int expected = THREADS * perThread / 2;
+        assertEquals(expected, database.getEmployeeCount());
+        assertEquals(expected, database.searchByDepartment("IT").size() + database.searchByDepartment("HR").size());
+        assertEquals(expected, database.filterBySalaryRange(0, Double.MAX_VALUE).size());
+        assertEquals(expected, database.searchByName("worker").size());
+    }
+
+    @Test
+    void concurrentUpdatesOfSameEmployeesStayAtomic() throws Exception {
+        int employeeCount = 50;
+        for (int id = 0; id < employeeCount; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, "IT", 60000, 4.0, 2, true));
+        }
+
+        runConcurrently(thread -> {
+            String department = thread % 2 == 0 ? "HR" : "Finance";
+            for (int round = 0; round < 200; round++) {
+                for (int id = 0; id < employeeCount; id++) {
+                    database.updateEmployeeDetails(id, "department", department);
+                    database.updateEmployeeDetails(id, "salary", 60000.0 + thread);
+                }
+            }
+        });
+
+        int indexed = database.searchByDepartment("IT").size()
+                + database.searchByDepartment("HR").size()
+                + database.searchByDepartment("Finance").size();
+        assertEquals(employeeCount, indexed);
+        assertEquals(employeeCount, database.filterBySalaryRange(60000, 60000 + THREADS).size());
+        for (int id = 0; id < employeeCount; id++) {
+            Employee<Integer> employee = database.getEmployee(id);
+            assertTrue(database.searchByDepartment(employee.getDepartment()).contains(employee));
+        }
+    }
+
+    private interface Work {
+        void run(int thread) throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException;
+    }
+
+    private void runConcurrently(Work work) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int index = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                work.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -7,8 +7,19 @@ import com.example.amalitechemployeemanagementsystem.model.Employee;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +75,27 @@ class EmployeeDatabaseTest {
         assertEquals("John Doe", itEmployees.getFirst().getName());
     }
 
+    @Test
+    void searchByDepartmentIgnoresCase() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+
+        assertEquals(1, database.searchByDepartment("it").size());
+    }
+
+    @Test
+    void searchByDepartmentAfterUpdateAndRemoval() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+
+        database.updateEmployeeDetails(1, "department", "HR");
+        assertTrue(database.searchByDepartment("IT").isEmpty());
+        assertEquals(2, database.searchByDepartment("HR").size());
+        assertEquals(70000, database.getAverageSalaryByDepartment("HR"));
+
+        database.removeEmployee(2);
+        assertEquals(1, database.searchByDepartment("HR").size());
+    }
+
     @Test
     void searchByName() throws InvalidSalaryException, InvalidDepartmentException {
         database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
@@ -73,6 +105,24 @@ class EmployeeDatabaseTest {
         assertEquals("John Doe", result.getFirst().getName());
     }
 
+    @Test
+    void searchByNamePartialMatch() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 85000, 4.2, 10, true));
+
+        assertEquals(2, database.searchByName("john").size());
+        assertEquals(1, database.searchByName("Sm").size());
+        assertTrue(database.searchByName("ohnd").isEmpty());
+
+        database.updateEmployeeDetails(1, "name", "Jack Doe");
+        assertEquals(1, database.searchByName("JOHN").size());
+        assertEquals(1, database.searchByName("ack d").size());
+
+        database.removeEmployee(3);
+        assertTrue(database.searchByName("john").isEmpty());
+    }
+
     @Test
     void filterByMinimumRating() throws InvalidSalaryException, InvalidDepartmentException {
         database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
@@ -93,6 +143,20 @@ class EmployeeDatabaseTest {
         assertEquals("John Doe", filtered.getFirst().getName());
     }
 
+    @Test
+    void filterBySalaryRangeAfterSalaryChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 3.5, 5, true));
+
+        database.updateEmployeeDetails(2, "salary", 72000.0);
+        database.giveSalaryRaise(4.0, 10);
+
+        List<Employee<Integer>> filtered = database.filterBySalaryRange(70000, 80000);
+        assertEquals(1, filtered.size());
+        assertEquals("Jane Smith", filtered.getFirst().getName());
+        assertEquals(1, database.filterBySalaryRange(82500, 82500).size());
+    }
+
     @Test
     void filterEmployees() throws InvalidSalaryException, InvalidDepartmentException {
         database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
@@ -110,6 +174,30 @@ class EmployeeDatabaseTest {
         assertTrue(database.getEmployeeIterator().hasNext());
     }
 
+    @Test
+    void snapshotIsUnaffectedByLaterWrites() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+
+        EmployeeSnapshot<Integer> snapshot = database.snapshot();
+        Iterator<Employee<Integer>> iterator = database.getEmployeeIterator();
+        database.updateEmployeeDetails(1, "salary", 90000.0);
+        database.removeEmployee(2);
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 85000, 4.2, 10, true));
+
+        assertEquals(2, snapshot.size());
+        assertEquals(75000, snapshot.get(1).getSalary());
+        assertNotNull(snapshot.get(2));
+        assertNull(snapshot.get(3));
+        int iterated = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterated++;
+        }
+        assertEquals(2, iterated);
+        assertEquals(90000, database.getEmployee(1).getSalary());
+    }
+
     @Test
     void sortBySalary() throws InvalidSalaryException, InvalidDepartmentException {
         database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
@@ -155,6 +243,19 @@ class EmployeeDatabaseTest {
         assertEquals(75000, topPaid.getFirst().getSalary());
     }
 
+    @Test
+    void getTopPaidEmployeesAfterRemoval() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 85000, 4.2, 10, true));
+        database.removeEmployee(3);
+
+        List<Employee<Integer>> topPaid = database.getTopPaidEmployees(5);
+        assertEquals(2, topPaid.size());
+        assertEquals(75000, topPaid.get(0).getSalary());
+        assertEquals(65000, topPaid.get(1).getSalary());
+    }
+
     @Test
     void getAverageSalaryByDepartment() throws InvalidSalaryException, InvalidDepartmentException {
         database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
@@ -195,4 +296,324 @@ class EmployeeDatabaseTest {
 
         assertTrue(database.getAllDepartments().contains("IT"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addEmployees() throws EmployeeNotFoundException {
+        BulkLoadResult result = database.addEmployees(List.of(
+                new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true),
+                new Employee<>(2, "Jane Smith", "HR", -10, 4.0, 5, true),
+                new Employee<>(3, "Bob Johnson", "Finance", 80000, 3.8, 10, true),
+                new Employee<>(1, "John Again", "IT", 70000, 4.0, 2, true)));
+
+        assertEquals(2, result.loaded());
+        assertEquals(List.of(2L, 4L), result.rejected().stream().map(BulkLoadResult.Rejection::row).toList());
+        assertEquals("John Doe", database.getEmployee(1).getName());
+        assertEquals(2, database.getEmployeeCount());
+        assertFalse(database.getAllDepartments().contains("HR"));
+    }
+
+    @Test
+    void addEmployeesBuildsIndexes() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployees(List.of(
+                new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true),
+                new Employee<>(2, "Jane Smith", "IT", 65000, 4.0, 5, true),
+                new Employee<>(3, "Bob Johnson", "Finance", 80000, 3.8, 10, true)));
+
+        assertEquals(2, database.searchByDepartment("it").size());
+        assertEquals(1, database.filterBySalaryRange(70000, 76000).size());
+        assertEquals(3, database.getTopPaidEmployees(1).get(0).employeeId());
+        assertEquals(1, database.searchByName("Smi").size());
+        assertTrue(database.getAllDepartments().contains("Finance"));
+    }
+
+    @Test
+    void addEmployeesKeepsNothingWhenTheSourceFails() {
+        Iterator<Employee<Integer>> failing = new Iterator<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Employee<Integer> next() {
+                if (next > 50) {
+                    throw new IllegalStateException("source broke");
+                }
+                int id = next++;
+                return new Employee<>(id, "Employee " + id, "IT", 1000 * id, 4.0, 1, true);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> database.addEmployees(() -> failing));
+        assertEquals(0, database.getEmployeeCount());
+        assertEquals(0, database.getVersion());
+        assertTrue(database.getAllDepartments().isEmpty());
+    }
+
+    @Test
+    void addEmployeesRollsBackWhenPublishingFails(@TempDir Path dir) throws IOException, InvalidDepartmentException {
+        // The journal cannot encode a name this long, so the batch fails after it has been stored
+        String tooLong = "x".repeat(70_000);
+        try (EmployeeJournal<Integer> ignored = EmployeeJournal.open(dir, database, Integer.class, Duration.ofSeconds(1), Long.MAX_VALUE)) {
+            List<Employee<Integer>> batch = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                batch.add(new Employee<>(i, i == 15 ? tooLong : "Employee " + i, "IT", 1000 * i, 4.0, 1, true));
+            }
+
+            assertThrows(UncheckedIOException.class, () -> database.addEmployees(batch));
+            assertEquals(0, database.getEmployeeCount());
+            assertEquals(0, database.snapshot().size());
+            assertTrue(database.searchByDepartment("IT").isEmpty());
+            assertTrue(database.searchByName("Employee").isEmpty());
+            assertTrue(database.getTopPaidEmployees(5).isEmpty());
+            assertEquals(0, database.getDepartmentStats("IT").headcount());
+            assertFalse(database.getAllDepartments().contains("IT"));
+        }
+    }
+
+    @Test
+    void loadEmployees(@TempDir Path dir) throws IOException, EmployeeNotFoundException {
+        Path file = dir.resolve("employees.csv");
+        Files.writeString(file, String.join("\n",
+                "id,name,department,salary,performanceRating,yearsOfExperience,isActive",
+                "1,\"Doe, John\",IT,75000,4.5,7,true",
+                "2,Jane Smith,HR,not-a-number,4.0,5,true",
+                "",
+                "3,Bob Johnson,Finance,80000,3.8,10,false"));
+
+        BulkLoadResult result = database.loadEmployees(file, Integer::valueOf);
+
+        assertEquals(2, result.loaded());
+        assertEquals(1, result.rejected().size());
+        assertEquals(3, result.rejected().get(0).row());
+        assertEquals("Doe, John", database.getEmployee(1).getName());
+        assertFalse(database.getEmployee(3).isActive());
+    }
+
+    @Test
+    void applyPatch() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        long version = database.getVersion();
+
+        Employee<Integer> updated = database.applyPatch(1, EmployeePatch.builder()
+                .name("Jack Doe").department("HR").salary(82000).active(false).build());
+
+        assertEquals(version + 1, database.getVersion());
+        assertSame(updated, database.getEmployee(1));
+        assertEquals("Jack Doe", updated.getName());
+        assertEquals(4.5, updated.getPerformanceRating());
+        assertTrue(database.searchByDepartment("IT").isEmpty());
+        assertEquals(1, database.searchByDepartment("HR").size());
+        assertEquals(1, database.searchByName("Jack").size());
+        assertEquals(1, database.filterBySalaryRange(80000, 85000).size());
+    }
+
+    @Test
+    void applyPatchValidatesAllFieldsFirst() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+
+        assertThrows(InvalidSalaryException.class, () -> database.applyPatch(1,
+                EmployeePatch.builder().name("Jack Doe").salary(-1).build()));
+
+        assertEquals("John Doe", database.getEmployee(1).getName());
+        assertThrows(EmployeeNotFoundException.class, () -> database.applyPatch(2,
+                EmployeePatch.builder().name("Nobody").build()));
+    }
+
+    @Test
+    void applyPatchWithoutChangesKeepsVersion() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> employee = new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true);
+        database.addEmployee(employee);
+        Employee<Integer> stored = database.getEmployee(1);
+        long version = database.getVersion();
+
+        assertSame(stored, database.applyPatch(1, EmployeePatch.of(employee)));
+        assertEquals(version, database.getVersion());
+    }
+
+    @Test
+    void getDepartmentStats() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 60000, 4.0, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "it", 80000, 5.0, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "HR", 50000, 3.0, 10, true));
+
+        DepartmentStats stats = database.getDepartmentStats("IT");
+        assertEquals(2, stats.headcount());
+        assertEquals(70000, stats.salary().average());
+        assertEquals(1.0e8, stats.salary().variance(), 1e-3);
+        assertEquals(80000, stats.salary().max());
+        assertEquals(4.5, stats.rating().average());
+
+        database.removeEmployee(2);
+        database.applyPatch(3, EmployeePatch.builder().department("IT").salary(55000).build());
+        database.giveSalaryRaise(3.5, 10);
+
+        stats = database.getDepartmentStats("it");
+        assertEquals(2, stats.headcount());
+        assertEquals(55000, stats.salary().min());
+        assertEquals(66000, stats.salary().max(), 1e-6);
+        assertEquals(60500, stats.salary().average(), 1e-6);
+        assertEquals(0, database.getDepartmentStats("HR").headcount());
+        assertEquals(1, database.getAllDepartmentStats().size());
+    }
+
+    @Test
+    void groupBy() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 60000, 4.0, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "IT", 80000, 5.0, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "IT", 70000, 3.0, 10, false));
+        database.addEmployee(new Employee<>(4, "Alice Brown", "HR", 50000, 3.5, 2, true));
+
+        Map<List<Object>, GroupResult> groups = database.groupBy(e -> List.of(e.getDepartment(), e.isActive()),
+                Aggregation.count("headcount"),
+                Aggregation.avg("rating", Employee::getPerformanceRating),
+                Aggregation.sum("payroll", Employee::getSalary),
+                Aggregation.percentile("median", Employee::getSalary, 50));
+
+        assertEquals(3, groups.size());
+        GroupResult activeIt = groups.get(List.of("IT", true));
+        assertEquals(2, activeIt.count());
+        assertEquals(4.5, activeIt.get("rating"));
+        assertEquals(140000, activeIt.get("payroll"));
+        assertEquals(70000, activeIt.get("median"));
+        assertEquals(1, groups.get(List.of("IT", false)).get("headcount"));
+    }
+
+    @Test
+    void groupByInParallel() {
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int id = 0; id < 50_000; id++) {
+            employees.add(new Employee<>(id, "Employee " + id, "Dept " + (id % 7), id, (id % 6) * 0.5, id % 30, true));
+        }
+        database.addEmployees(employees);
+
+        Map<String, GroupResult> groups = database.groupBy(Employee::getDepartment,
+                Aggregation.count("headcount"),
+                Aggregation.min("min", Employee::getSalary),
+                Aggregation.max("max", Employee::getSalary),
+                Aggregation.percentile("p90", Employee::getSalary, 90));
+
+        assertEquals(7, groups.size());
+        GroupResult dept3 = groups.get("Dept 3");
+        List<Double> salaries = employees.stream().filter(e -> e.getDepartment().equals("Dept 3"))
+                .map(Employee::getSalary).sorted().toList();
+        assertEquals(salaries.size(), dept3.count());
+        assertEquals(salaries.get(0), dept3.get("min"));
+        assertEquals(salaries.get(salaries.size() - 1), dept3.get("max"));
+        double rank = 0.9 * (salaries.size() - 1);
+        int lower = (int) rank;
+        double expected = salaries.get(lower) + (rank - lower) * (salaries.get(lower + 1) - salaries.get(lower));
+        assertEquals(expected, dept3.get("p90"), 1e-9);
+    }
+
+    @Test
+    void topK() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 80000, 3.8, 10, true));
+        database.addEmployee(new Employee<>(4, "Alice Brown", "IT", 70000, 4.1, 12, true));
+
+        List<Employee<Integer>> mostExperienced =
+                database.topK(2, Comparator.comparingInt(Employee<Integer>::getYearsOfExperience).reversed());
+
+        assertEquals(List.of(4, 3), mostExperienced.stream().map(Employee::employeeId).toList());
+        assertEquals(4, database.topK(10, Comparator.comparing(Employee<Integer>::getName)).size());
+    }
+
+    @Test
+    void getLeaderboard() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 80000, 3.8, 10, true));
+        List<Employee<Integer>> scanned = database.getLeaderboard(Leaderboard.PERFORMANCE_RATING, 2);
+
+        database.enableLeaderboard(Leaderboard.PERFORMANCE_RATING);
+
+        assertEquals(scanned, database.getLeaderboard(Leaderboard.PERFORMANCE_RATING, 2));
+        database.applyPatch(3, EmployeePatch.builder().performanceRating(5.0).build());
+        database.removeEmployee(2);
+        database.addEmployee(new Employee<>(4, "Alice Brown", "IT", 70000, 4.6, 12, true));
+        assertEquals(List.of(3, 4, 1), database.getLeaderboard(Leaderboard.PERFORMANCE_RATING, 5)
+                .stream().map(Employee::employeeId).toList());
+        assertEquals(3, database.getLeaderboard(Leaderboard.SALARY, 1).get(0).employeeId());
+    }
+
+    @Test
+    void sortBySalaryIsCachedUntilWrite() throws InvalidSalaryException, InvalidDepartmentException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+
+        List<Employee<Integer>> sorted = database.sortBySalary();
+
+        assertSame(sorted, database.sortBySalary());
+        assertThrows(UnsupportedOperationException.class, () -> sorted.remove(0));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 80000, 3.8, 10, true));
+        assertEquals(List.of(3, 1, 2), database.sortBySalary().stream().map(Employee::employeeId).toList());
+        assertEquals(2, sorted.size());
+    }
+
+    @Test
+    void sortedViewsRepairedAfterWrites() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Random random = new Random(42);
+        for (int id = 0; id < 500; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, "IT", random.nextInt(50) * 1000, random.nextInt(6), random.nextInt(20), true));
+        }
+        database.sortBySalary();
+        database.sortByPerformance();
+        database.sortByExperience();
+
+        for (int round = 0; round < 50; round++) {
+            for (int write = 0; write < 5; write++) {
+                int id = random.nextInt(600);
+                boolean present = !database.filterEmployees(e -> e.employeeId() == id).isEmpty();
+                if (!present) {
+                    database.addEmployee(new Employee<>(id, "Employee " + id, "HR", random.nextInt(50) * 1000, 2.0, 3, true));
+                } else if (random.nextBoolean()) {
+                    database.applyPatch(id, EmployeePatch.builder().salary(random.nextInt(50) * 1000)
+                            .performanceRating(random.nextInt(6)).yearsOfExperience(random.nextInt(20)).build());
+                } else {
+                    database.removeEmployee(id);
+                }
+            }
+            assertSortedLike(database.sortBySalary(), Comparator.comparingDouble(Employee<Integer>::getSalary).reversed());
+            assertSortedLike(database.sortByPerformance(),
+                    Comparator.comparingDouble(Employee<Integer>::getPerformanceRating).reversed());
+            assertSortedLike(database.sortByExperience(), Comparator.naturalOrder());
+        }
+    }
+
+    @Test
+    void streamQueriesMatchListQueries() throws InvalidSalaryException, InvalidDepartmentException {
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int id = 0; id < 3000; id++) {
+            employees.add(new Employee<>(id, "Employee " + id, id % 3 == 0 ? "IT" : "HR",
+                    30000 + (id % 40) * 1000, (id % 6) * 1.0, id % 30, true));
+        }
+        database.addEmployees(employees);
+
+        assertEquals(database.searchByDepartment("it").size(), database.streamByDepartment("IT").parallel().count());
+        assertEquals(database.filterBySalaryRange(40000, 50000).size(),
+                database.streamBySalaryRange(40000, 50000).parallel().count());
+        assertEquals(30000, database.streamBySalaryRange(0, 100000).findFirst().orElseThrow().getSalary());
+        assertEquals(database.filterByMinimumRating(4.0).size(), database.streamByMinimumRating(4.0).parallel().count());
+        assertEquals(database.filterEmployees(e -> e.getYearsOfExperience() > 20).size(),
+                database.streamEmployees(e -> e.getYearsOfExperience() > 20).parallel().count());
+        assertEquals(database.getAllEmployees().stream().mapToDouble(Employee::getSalary).sum(),
+                database.streamAllEmployees().parallel().mapToDouble(Employee::getSalary).sum(), 0.001);
+        assertEquals(database.sortBySalary().subList(0, 10),
+                database.streamBySalary().parallel().limit(10).toList());
+        assertThrows(InvalidDepartmentException.class, () -> database.streamByDepartment(" "));
+        assertThrows(IllegalArgumentException.class, () -> database.streamBySalaryRange(10, 5));
+    }
+
+    private void assertSortedLike(List<Employee<Integer>> sorted, Comparator<Employee<Integer>> order) {
+        List<Employee<Integer>> expected = new ArrayList<>(database.getAllEmployees());
+        expected.sort(order.thenComparing(Employee::employeeId));
+        assertEquals(expected.size(), sorted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeExporterTest {
+    @TempDir
+    Path dir;
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() throws InvalidSalaryException, InvalidDepartmentException {
+        database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>(1, "Doe, \"JD\" John", "IT", 75000, 4.5, 7, true));
+        database.addEmployee(new Employee<>(2, "Zoë Ångström", "HR", 65000.25, 4.0, 5, false));
+        database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 80000.125, 3.75, 10, true));
+    }
+
+    @Test
+    void exportEmployeesCsvRoundTrips() throws IOException, EmployeeNotFoundException {
+        Path file = dir.resolve("employees.csv");
+
+        assertEquals(3, database.exportEmployees(file, ExportFormat.CSV));
+
+        EmployeeDatabase<Integer> reloaded = new EmployeeDatabase<>();
+        BulkLoadResult result = reloaded.loadEmployees(file, Integer::valueOf);
+        assertEquals(3, result.loaded());
+        for (int id = 1; id <= 3; id++) {
+            assertSameFields(database.getEmployee(id), reloaded.getEmployee(id));
+        }
+    }
+
+    @Test
+    void exportEmployeesJsonLines() throws IOException {
+        Path file = dir.resolve("employees.jsonl");
+
+        database.exportEmployees(database.filterEmployees(e -> e.employeeId() == 1), file, ExportFormat.JSON_LINES);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(List.of("{\"id\":1,\"name\":\"Doe, \\\"JD\\\" John\",\"department\":\"IT\",\"salary\":75000,"
+                + "\"performanceRating\":4.5,\"yearsOfExperience\":7,\"isActive\":true}"), lines);
+    }
+
+    @Test
+    void exportEmployeesCsvWritesNumericIdsUnquoted() throws IOException {
+        Path file = dir.resolve("ids.csv");
+
+        database.exportEmployees(database.filterEmployees(e -> e.employeeId() == 3), file, ExportFormat.CSV);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(EmployeeCsv.HEADER, lines.get(0));
+        assertEquals("3,Bob Johnson,Finance,80000.125,3.75,10,true", lines.get(1));
+    }
+
+    @Test
+    void exportEmployeesLargerThanBuffer() throws IOException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> large = new EmployeeDatabase<>();
+        for (int id = 0; id < 5000; id++) {
+            large.addEmployees(List.of(new Employee<>(id, "Employee " + id, "IT", 1000 + id, 3.0, id % 40, true)));
+        }
+        Path file = dir.resolve("large.csv");
+
+        assertEquals(5000, large.exportEmployees(file, ExportFormat.CSV));
+
+        EmployeeDatabase<Integer> reloaded = new EmployeeDatabase<>();
+        assertEquals(5000, reloaded.loadEmployees(file, Integer::valueOf).loaded());
+        assertSameFields(large.getEmployee(4321), reloaded.getEmployee(4321));
+    }
+
+    @Test
+    void exportEmployeesCsvRoundTripsLineBreaks() throws IOException, InvalidSalaryException,
+            InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(4, "Jane\n\"JJ\", Smith\n", "Research,\nLab", 90000, 4.2, 3, true));
+        Path file = dir.resolve("employees.csv");
+
+        assertEquals(4, database.exportEmployees(file, ExportFormat.CSV));
+
+        EmployeeDatabase<Integer> reloaded = new EmployeeDatabase<>();
+        BulkLoadResult result = reloaded.loadEmployees(file, Integer::valueOf);
+        assertEquals(4, result.loaded());
+        assertTrue(result.rejected().isEmpty());
+        for (int id = 1; id <= 4; id++) {
+            assertSameFields(database.getEmployee(id), reloaded.getEmployee(id));
+        }
+    }
+
+    @Test
+    void loadEmployeesReportsUnterminatedQuoteAtItsFirstLine() throws IOException, EmployeeNotFoundException {
+        Path file = dir.resolve("broken.csv");
+        Files.writeString(file, EmployeeCsv.HEADER + "\n"
+                + "1,Jane,IT,50000,4.0,2,true\n"
+                + "2,\"Open\n"
+                + "3,Bob,HR,60000,3.0,4,true\n");
+
+        EmployeeDatabase<Integer> reloaded = new EmployeeDatabase<>();
+        BulkLoadResult result = reloaded.loadEmployees(file, Integer::valueOf);
+
+        assertEquals(1, result.loaded());
+        assertEquals("Jane", reloaded.getEmployee(1).getName());
+        assertEquals(1, result.rejected().size());
+        assertEquals(3, result.rejected().get(0).row());
+    }
+
+    // Employee.equals only compares IDs
+    private static void assertSameFields(Employee<Integer> expected, Employee<Integer> actual) {
+        assertEquals(expected.employeeId(), actual.employeeId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDepartment(), actual.getDepartment());
+        assertEquals(expected.getSalary(), actual.getSalary());
+        assertEquals(expected.getPerformanceRating(), actual.getPerformanceRating());
+        assertEquals(expected.getYearsOfExperience(), actual.getYearsOfExperience());
+        assertEquals(expected.isActive(), actual.isActive());
+    }
+}
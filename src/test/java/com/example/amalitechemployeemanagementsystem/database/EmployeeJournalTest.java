@@ -0,0 +1,180 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeJournalTest {
+    private static final Duration SYNC_INTERVAL = Duration.ofMillis(20);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversEveryKindOfWrite() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE)) {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+            database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+            database.addEmployee(new Employee<>(3, "Bob Johnson", "Finance", 85000, 4.2, 10, true));
+            database.updateEmployeeDetails(2, "department", "Finance");
+            database.giveSalaryRaise(4.4, 10);
+            database.removeEmployee(3);
+        }
+
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(2, recovered.getEmployeeCount());
+        assertEquals(82500, recovered.getEmployee(1).getSalary(), 1e-9);
+        assertEquals(71500, recovered.getEmployee(2).getSalary(), 1e-9);
+        assertEquals("Finance", recovered.getEmployee(2).getDepartment());
+        assertThrows(EmployeeNotFoundException.class, () -> recovered.getEmployee(3));
+        assertEquals(1, recovered.searchByDepartment("Finance").size());
+    }
+
+    @Test
+    void compactionRollsTheLogIntoASnapshot() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE)) {
+            for (int id = 1; id <= 100; id++) {
+                database.addEmployee(new Employee<>(id, "Employee " + id, "IT", 1000, 4.0, 1, true));
+            }
+            journal.compact();
+            database.updateEmployeeDetails(1, "salary", 2000.0);
+            database.removeEmployee(2);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<String> names = files.map(file -> file.getFileName().toString()).sorted().toList();
+            assertEquals(1, names.stream().filter(name -> name.endsWith(".snap")).count());
+            assertTrue(names.stream().noneMatch(name -> name.equals("journal-000000000001.log")));
+        }
+
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(99, recovered.getEmployeeCount());
+        assertEquals(2000, recovered.getEmployee(1).getSalary());
+    }
+
+    @Test
+    void segmentPastThresholdIsCompactedInTheBackground() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, 4096)) {
+            for (int id = 1; id <= 200; id++) {
+                database.addEmployee(new Employee<>(id, "Employee " + id, "IT", 1000, 4.0, 1, true));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!hasSnapshot() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(hasSnapshot());
+            database.updateEmployeeDetails(1, "salary", 2000.0);
+            database.removeEmployee(2);
+        }
+
+        assertFalse(Files.exists(directory.resolve("journal-000000000001.log")));
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(199, recovered.getEmployeeCount());
+        assertEquals(2000, recovered.getEmployee(1).getSalary());
+        assertEquals("Employee 200", recovered.getEmployee(200).getName());
+    }
+
+    @Test
+    void ignoresATornFinalRecord() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE)) {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        }
+        Files.write(directory.resolve("journal-000000000001.log"), new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(1, recovered.getEmployeeCount());
+        assertEquals("John Doe", recovered.getEmployee(1).getName());
+    }
+
+    @Test
+    void backgroundSyncMakesWritesDurableWithoutClose() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE);
+        try {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+            Path segment = directory.resolve("journal-000000000001.log");
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (Files.size(segment) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(Files.size(segment) > 0);
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    void unjournalableWriteChangesNothing() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        String tooLong = "x".repeat(70_000);
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE)) {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+
+            assertThrows(UncheckedIOException.class,
+                    () -> database.addEmployee(new Employee<>(2, tooLong, "HR", 65000, 4.8, 5, true)));
+            assertThrows(UncheckedIOException.class, () -> database.updateEmployeeDetails(1, "name", tooLong));
+
+            assertEquals(1, database.getEmployeeCount());
+            assertEquals(1, database.getAllEmployees().size());
+            assertTrue(database.searchByDepartment("HR").isEmpty());
+            assertEquals("John Doe", database.getEmployee(1).getName());
+            assertEquals(1, database.searchByName("john").size());
+        }
+
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(1, recovered.getEmployeeCount());
+        assertEquals("John Doe", recovered.getEmployee(1).getName());
+    }
+
+    @Test
+    void openRejectsUnsupportedIdTypes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EmployeeJournal.open(directory, new EmployeeDatabase<UUID>(), UUID.class, SYNC_INTERVAL, Long.MAX_VALUE));
+    }
+
+    @Test
+    void recoveryStopsAtAnImpossibleRecordLength() throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (EmployeeJournal<Integer> journal = EmployeeJournal.open(directory, database, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE)) {
+            database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        }
+        // A damaged header claiming a record of almost 2 GB
+        Files.write(directory.resolve("journal-000000000001.log"), new byte[]{0x7F, -1, -1, -16, 0, 0, 0, 0},
+                StandardOpenOption.APPEND);
+
+        EmployeeDatabase<Integer> recovered = recover();
+        assertEquals(1, recovered.getEmployeeCount());
+        assertEquals("John Doe", recovered.getEmployee(1).getName());
+    }
+
+    private boolean hasSnapshot() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.anyMatch(file -> file.getFileName().toString().endsWith(".snap"));
+        }
+    }
+
+    private EmployeeDatabase<Integer> recover() throws IOException {
+        EmployeeDatabase<Integer> recovered = new EmployeeDatabase<>();
+        EmployeeJournal.open(directory, recovered, Integer.class, SYNC_INTERVAL, Long.MAX_VALUE).close();
+        return recovered;
+    }
+}
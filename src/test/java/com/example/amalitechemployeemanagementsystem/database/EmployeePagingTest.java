@@ -0,0 +1,151 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeePagingTest {
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int id = 0; id < 250; id++) {
+            employees.add(new Employee<>(id, "Employee " + id, id % 2 == 0 ? "IT" : "HR",
+                    40000 + (id % 10) * 1000, (id % 5) + 0.5, id % 20, true));
+        }
+        database.addEmployees(employees);
+    }
+
+    @Test
+    void getAllEmployeesPages() {
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<Integer> page = database.getAllEmployees(100, cursor);
+            page.items().forEach(employee -> seen.add(employee.employeeId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(250, seen.size());
+        assertEquals(0, seen.get(0));
+        assertEquals(249, seen.get(249));
+    }
+
+    @Test
+    void sortBySalaryPagesStableUnderWrites() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Set<Integer> seen = new HashSet<>();
+        Page<Integer> page = database.sortBySalary(40, null);
+        page.items().forEach(employee -> assertTrue(seen.add(employee.employeeId())));
+        double lastSalary = page.items().get(39).getSalary();
+
+        // Writes on both sides of the cursor must not shift the remaining employees
+        database.addEmployee(new Employee<>(1000, "Top Earner", "IT", 99000, 4.0, 5, true));
+        database.addEmployee(new Employee<>(1001, "New Hire", "IT", 1000, 4.0, 0, true));
+        database.removeEmployee(0);
+
+        while (page.hasNext()) {
+            page = database.sortBySalary(40, page.nextCursor());
+            for (Employee<Integer> employee : page.items()) {
+                assertTrue(employee.getSalary() <= lastSalary);
+                lastSalary = employee.getSalary();
+                assertTrue(seen.add(employee.employeeId()), "repeated " + employee.employeeId());
+            }
+        }
+
+        assertFalse(seen.contains(1000));
+        assertFalse(seen.contains(0));
+        assertTrue(seen.contains(1001));
+        assertEquals(250, seen.size());
+    }
+
+    @Test
+    void searchByDepartmentPages() throws InvalidDepartmentException {
+        Page<Integer> first = database.searchByDepartment("it", 100, null);
+        Page<Integer> second = database.searchByDepartment("it", 100, first.nextCursor());
+
+        assertEquals(100, first.items().size());
+        assertEquals(25, second.items().size());
+        assertFalse(second.hasNext());
+        assertEquals(198, first.items().get(99).employeeId());
+        assertEquals(200, second.items().get(0).employeeId());
+    }
+
+    @Test
+    void filterByMinimumRatingPages() {
+        Page<Integer> page = database.filterByMinimumRating(4.0, 30, null);
+        int count = page.items().size();
+        while (page.hasNext()) {
+            page = database.filterByMinimumRating(4.0, 30, page.nextCursor());
+            count += page.items().size();
+        }
+
+        assertEquals(database.filterByMinimumRating(4.0).size(), count);
+    }
+
+    @Test
+    void cursorFromOtherOrderingRejected() {
+        String cursor = database.sortBySalary(10, null).nextCursor();
+
+        assertThrows(IllegalArgumentException.class, () -> database.getAllEmployees(10, cursor));
+        assertThrows(IllegalArgumentException.class, () -> database.getAllEmployees(10, "not-a-cursor"));
+    }
+
+    @Test
+    void filterBySalaryRangePagesInSalaryOrder() throws InvalidSalaryException {
+        List<Employee<Integer>> seen = new ArrayList<>();
+        Page<Integer> page = database.filterBySalaryRange(42000, 45000, 7, null);
+        seen.addAll(page.items());
+        while (page.hasNext()) {
+            page = database.filterBySalaryRange(42000, 45000, 7, page.nextCursor());
+            seen.addAll(page.items());
+        }
+
+        List<Employee<Integer>> expected = new ArrayList<>(database.filterBySalaryRange(42000, 45000));
+        expected.sort(Comparator.comparingDouble(Employee<Integer>::getSalary).thenComparing(Employee::employeeId));
+        assertEquals(100, seen.size());
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void pagedAndListVariantsRejectTheSameInput() {
+        assertThrows(InvalidSalaryException.class, () -> database.filterBySalaryRange(-1, 10));
+        assertThrows(InvalidSalaryException.class, () -> database.filterBySalaryRange(-1, 10, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> database.filterBySalaryRange(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> database.filterBySalaryRange(10, 5, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> database.filterByMinimumRating(-1));
+        assertThrows(IllegalArgumentException.class, () -> database.filterByMinimumRating(-1, 10, null));
+        assertEquals(database.filterByMinimumRating(6).size(), database.filterByMinimumRating(6, 10, null).items().size());
+        assertThrows(IllegalArgumentException.class, () -> database.searchByName(" "));
+        assertThrows(IllegalArgumentException.class, () -> database.searchByName(" ", 10, null));
+    }
+
+    @Test
+    void pagedVariantsAreMeasured() throws InvalidSalaryException {
+        database.getMetrics().setEnabled(true);
+        database.filterBySalaryRange(40000, 50000, 10, null);
+        database.sortBySalary(10, null);
+        assertThrows(IllegalArgumentException.class, () -> database.filterByMinimumRating(4.0, 0, null));
+
+        Map<String, OperationStatistics> operations = database.getMetrics().getOperations();
+        assertEquals(1, operations.get("FILTER_BY_SALARY_RANGE_PAGE").getCalls());
+        assertEquals(1, operations.get("SORT_BY_SALARY_PAGE").getCalls());
+        assertEquals(1, operations.get("FILTER_BY_MINIMUM_RATING_PAGE").getErrors());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Utils.EmployeeSalaryComparator;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeQueryTest {
+    private static final String[] DEPARTMENTS = {"IT", "HR", "Finance", "Sales", "Legal"};
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int id = 0; id < 2000; id++) {
+            // Legal is small, so it should drive department queries
+            String department = id % 100 == 0 ? "Legal" : DEPARTMENTS[id % 4];
+            employees.add(new Employee<>(id, "Employee " + id, department, 30000 + id * 50,
+                    (id % 11) * 0.5, id % 25, id % 3 != 0));
+        }
+        database.addEmployees(employees);
+    }
+
+    @Test
+    void queryMatchesFilter() {
+        EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder()
+                .department("it").salaryBetween(40000, 90000).minRating(3.0).active(true).build();
+
+        Predicate<Employee<Integer>> expected = e -> e.getDepartment().equals("IT")
+                && e.getSalary() >= 40000 && e.getSalary() <= 90000
+                && e.getPerformanceRating() >= 3.0 && e.isActive();
+        assertEquals(ids(database.filterEmployees(expected)), ids(database.query(query)));
+    }
+
+    @Test
+    void explainChoosesMostSelectiveIndex() {
+        EmployeeQuery<Integer> byDepartment = EmployeeQuery.<Integer>builder()
+                .department("Legal").salaryBetween(30000, 130000).build();
+        EmployeeQuery<Integer> bySalary = EmployeeQuery.<Integer>builder()
+                .department("IT").salaryBetween(50000, 51000).build();
+        EmployeeQuery<Integer> byRating = EmployeeQuery.<Integer>builder()
+                .minRating(5.0).active(true).build();
+
+        assertTrue(database.explain(byDepartment).access().startsWith("DepartmentIndex"));
+        assertEquals(20, database.explain(byDepartment).estimatedRows());
+        QueryPlan salaryPlan = database.explain(bySalary);
+        assertTrue(salaryPlan.access().startsWith("SalaryIndex"));
+        assertEquals(List.of("department=IT"), salaryPlan.residual());
+        assertEquals("FullScan", database.explain(byRating).access());
+
+        database.enableLeaderboard(Leaderboard.PERFORMANCE_RATING);
+
+        assertTrue(database.explain(byRating).access().startsWith("RatingLeaderboard"));
+        assertEquals(ids(database.filterEmployees(e -> e.getPerformanceRating() >= 5.0 && e.isActive())),
+                ids(database.query(byRating)));
+    }
+
+    @Test
+    void queryOrdersAndPages() throws InvalidDepartmentException {
+        EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder()
+                .department("HR").orderBy(new EmployeeSalaryComparator<>()).offset(5).limit(3).build();
+
+        List<Employee<Integer>> expected = new ArrayList<>(database.searchByDepartment("HR"));
+        expected.sort(new EmployeeSalaryComparator<>());
+        assertEquals(ids(expected.subList(5, 8)), ids(database.query(query)));
+        assertTrue(database.explain(query).toString().endsWith("TopK(8) offset 5 limit 3"));
+    }
+
+    @Test
+    void queryNameUsesTrigrams() {
+        EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder().nameContains("ee 123").build();
+
+        assertTrue(database.explain(query).access().startsWith("NameIndex"));
+        assertEquals(List.of(123, 1230, 1231, 1232, 1233, 1234, 1235, 1236, 1237, 1238, 1239), ids(database.query(query)));
+    }
+
+    private static List<Integer> ids(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::employeeId).sorted().toList();
+    }
+}
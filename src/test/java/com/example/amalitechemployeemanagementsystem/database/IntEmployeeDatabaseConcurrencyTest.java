@@ -0,0 +1,10 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+// Runs the contention tests against the primitive open-addressing store
+class IntEmployeeDatabaseConcurrencyTest extends EmployeeDatabaseConcurrencyTest {
+
+    @Override
+    EmployeeDatabase<Integer> createDatabase() {
+        return new IntEmployeeDatabase();
+    }
+}
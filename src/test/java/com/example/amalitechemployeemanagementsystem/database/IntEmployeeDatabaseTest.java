@@ -0,0 +1,218 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.Exception.EmployeeNotFoundException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidDepartmentException;
+import com.example.amalitechemployeemanagementsystem.Exception.InvalidSalaryException;
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntEmployeeDatabaseTest {
+    private IntEmployeeDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new IntEmployeeDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database = null;
+    }
+
+    @Test
+    void getEmployee() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+
+        assertEquals("John Doe", database.getEmployee(1).getName());
+        assertEquals("John Doe", database.getEmployee(Integer.valueOf(1)).getName());
+        assertThrows(EmployeeNotFoundException.class, () -> database.getEmployee(2));
+    }
+
+    @Test
+    void snapshotIsUnaffectedByLaterWrites() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        database.addEmployee(new Employee<>(1, "John Doe", "IT", 75000, 4.5, 7, true));
+        EmployeeSnapshot<Integer> snapshot = database.snapshot();
+
+        database.updateEmployeeDetails(1, "salary", 90000.0);
+        database.addEmployee(new Employee<>(2, "Jane Smith", "HR", 65000, 4.8, 5, true));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(75000, snapshot.get(1).getSalary());
+        assertEquals(90000, database.getEmployee(1).getSalary());
+        assertEquals(2, database.getEmployeeCount());
+    }
+
+    @Test
+    void snapshotsStayIsolatedAcrossChunks() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.OFF);
+        try {
+            Random random = new Random(11);
+            Map<Integer, Double> expected = new HashMap<>();
+            List<EmployeeSnapshot<Integer>> snapshots = new ArrayList<>();
+            List<Map<Integer, Double>> contents = new ArrayList<>();
+            for (int i = 0; i < 30_000; i++) {
+                int id = random.nextInt(8_000);
+                if (expected.containsKey(id) && random.nextInt(3) == 0) {
+                    database.removeEmployee(id);
+                    expected.remove(id);
+                } else if (expected.containsKey(id)) {
+                    database.updateEmployeeDetails(id, "salary", (double) i);
+                    expected.put(id, (double) i);
+                } else {
+                    database.addEmployee(new Employee<>(id, "Employee " + id, "IT", i, 4.0, 1, true));
+                    expected.put(id, (double) i);
+                }
+                if (i % 997 == 0) {
+                    snapshots.add(database.snapshot());
+                    contents.add(new HashMap<>(expected));
+                }
+            }
+
+            for (int s = 0; s < snapshots.size(); s++) {
+                Map<Integer, Double> actual = new HashMap<>();
+                snapshots.get(s).forEach(employee -> actual.put(employee.employeeId(), employee.getSalary()));
+                assertEquals(contents.get(s), actual, "snapshot " + s);
+            }
+        } finally {
+            Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        }
+    }
+
+    @Test
+    void openReloadsPersistedEmployees(@TempDir Path directory)
+            throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.OFF);
+        try (IntEmployeeDatabase persisted = IntEmployeeDatabase.open(directory)) {
+            for (int id = 1; id <= 3_000; id++) {
+                persisted.addEmployee(new Employee<>(id, "Employee " + id, id % 2 == 0 ? "IT" : "HR", id, 4.0, 2, id % 3 != 0));
+            }
+            persisted.updateEmployeeDetails(1, "name", "Renamed Person");
+            persisted.updateEmployeeDetails(2, "department", "Finance");
+            persisted.removeEmployee(3);
+            persisted.addEmployee(new Employee<>(5_000, "Late Joiner", "IT", 5000, 4.9, 1, true));
+        } finally {
+            Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        }
+
+        try (IntEmployeeDatabase reopened = IntEmployeeDatabase.open(directory)) {
+            assertEquals(3_000, reopened.getEmployeeCount());
+            assertEquals("Renamed Person", reopened.getEmployee(1).getName());
+            assertEquals("Finance", reopened.getEmployee(2).getDepartment());
+            assertFalse(reopened.getEmployee(6).isActive());
+            assertEquals(4.9, reopened.getEmployee(5_000).getPerformanceRating());
+            assertThrows(EmployeeNotFoundException.class, () -> reopened.getEmployee(3));
+            assertEquals(1, reopened.searchByDepartment("finance").size());
+            assertEquals(1, reopened.searchByName("renamed").size());
+            assertTrue(reopened.getAllDepartments().contains("HR"));
+        }
+    }
+
+    @Test
+    void stringHeapReusesFreedSpace(@TempDir Path directory)
+            throws IOException, InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.OFF);
+        try (IntEmployeeDatabase persisted = IntEmployeeDatabase.open(directory)) {
+            for (int id = 0; id < 100; id++) {
+                persisted.addEmployee(new Employee<>(id, "Employee " + id, "IT", 50000, 4.0, 2, true));
+            }
+            // About 2 MB of strings would be appended without reuse
+            for (int round = 0; round < 500; round++) {
+                for (int id = 0; id < 100; id++) {
+                    persisted.updateEmployeeDetails(id, "name", "Renamed Employee " + id + " in round " + round);
+                }
+                persisted.removeEmployee(round % 100);
+                persisted.addEmployee(new Employee<>(round % 100, "Rehired " + round, "Dept " + round, 50000, 4.0, 2, true));
+            }
+        } finally {
+            Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        }
+
+        assertTrue(Files.size(directory.resolve(MappedEmployeeStore.STRINGS_FILE)) <= 1024 * 1024);
+        try (IntEmployeeDatabase reopened = IntEmployeeDatabase.open(directory)) {
+            assertEquals(100, reopened.getEmployeeCount());
+            assertEquals("Rehired 499", reopened.getEmployee(99).getName());
+            assertEquals("Dept 499", reopened.getEmployee(99).getDepartment());
+            assertEquals("Renamed Employee 0 in round 499", reopened.getEmployee(0).getName());
+            assertEquals("Dept 400", reopened.getEmployee(0).getDepartment());
+            reopened.updateEmployeeDetails(0, "name", "After Reopen");
+            assertEquals("Renamed Employee 1 in round 499", reopened.getEmployee(1).getName());
+        }
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.OFF);
+        try {
+            Random random = new Random(7);
+            Map<Integer, Double> expected = new HashMap<>();
+            for (int i = 0; i < 20_000; i++) {
+                int id = random.nextInt(3_000) - 1_000;
+                if (expected.containsKey(id) && random.nextBoolean()) {
+                    database.removeEmployee(id);
+                    expected.remove(id);
+                } else if (!expected.containsKey(id)) {
+                    database.addEmployee(new Employee<>(id, "Employee " + id, "IT", i, 4.0, 1, true));
+                    expected.put(id, (double) i);
+                }
+                if (i % 1_000 == 0) {
+                    database.snapshot();
+                }
+            }
+
+            assertEquals(expected.size(), database.getEmployeeCount());
+            for (Map.Entry<Integer, Double> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), database.getEmployee((int) entry.getKey()).getSalary());
+            }
+            assertEquals(expected.size(), database.getAllEmployees().size());
+        } finally {
+            Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        }
+    }
+
+    @Test
+    void parallelStreamCoversSnapshot() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        for (int id = 0; id < 5_000; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, "IT", 1000 + id, 4.0, 1, true));
+        }
+        EmployeeSnapshot<Integer> snapshot = database.snapshot();
+        database.removeEmployee(0);
+
+        assertEquals(5_000, snapshot.spliterator().getExactSizeIfKnown());
+        assertEquals(5_000, snapshot.parallelStream().count());
+        assertEquals(snapshot.stream().mapToDouble(Employee::getSalary).sum(),
+                snapshot.parallelStream().mapToDouble(Employee::getSalary).sum());
+        assertEquals(4_999, database.streamAllEmployees().parallel().map(Employee::employeeId).distinct().count());
+    }
+
+    @Test
+    void groupByAggregatesEverySnapshotChunk() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        for (int id = 0; id < 20_000; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, "Dept " + (id % 5), id, 4.0, 1, true));
+        }
+        database.removeEmployee(7);
+
+        Map<String, GroupResult> groups = database.groupBy(Employee::getDepartment,
+                Aggregation.count("headcount"), Aggregation.sum("payroll", Employee::getSalary));
+
+        Map<String, Double> payroll = new HashMap<>();
+        database.snapshot().forEach(e -> payroll.merge(e.getDepartment(), e.getSalary(), Double::sum));
+        assertEquals(5, groups.size());
+        assertEquals(3_999, groups.get("Dept 2").get("headcount"));
+        assertEquals(4_000, groups.get("Dept 3").get("headcount"));
+        for (Map.Entry<String, Double> entry : payroll.entrySet()) {
+            assertEquals(entry.getValue(), groups.get(entry.getKey()).get("payroll"), 1e-6);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    // Distinct keys sharing a hash code, to exercise the collision nodes
+    private record CollidingKey(int value) {
+        @Override
+        public int hashCode() {
+            return value % 7;
+        }
+    }
+
+    @Test
+    void putGetAndRemove() {
+        PersistentHashMap<Integer, String> map = PersistentHashMap.<Integer, String>empty().put(1, "one").put(2, "two");
+
+        assertEquals(2, map.size());
+        assertEquals("one", map.get(1));
+        assertNull(map.get(3));
+
+        PersistentHashMap<Integer, String> removed = map.remove(1);
+        assertEquals(1, removed.size());
+        assertNull(removed.get(1));
+        assertSame(removed, removed.remove(1));
+    }
+
+    @Test
+    void olderVersionsAreUnaffectedByUpdates() {
+        PersistentHashMap<Integer, String> before = PersistentHashMap.<Integer, String>empty().put(1, "one");
+        PersistentHashMap<Integer, String> after = before.put(1, "uno").put(2, "two");
+
+        assertEquals("one", before.get(1));
+        assertEquals(1, before.size());
+        assertEquals("uno", after.get(1));
+        assertEquals(2, after.size());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(42);
+        Map<Object, Integer> expected = new HashMap<>();
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+
+        for (int i = 0; i < 50_000; i++) {
+            Object key = random.nextBoolean() ? random.nextInt(5_000) : new CollidingKey(random.nextInt(200));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        List<Integer> iterated = new ArrayList<>();
+        map.forEach(iterated::add);
+        List<Integer> values = new ArrayList<>(expected.values());
+        Collections.sort(iterated);
+        Collections.sort(values);
+        assertEquals(values, iterated);
+    }
+
+    @Test
+    void spliteratorSplitsIntoDisjointParts() {
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10_000; i++) {
+            map = map.put(i % 10 == 0 ? new CollidingKey(i) : i, i);
+        }
+
+        Spliterator<Integer> root = map.spliterator();
+        assertEquals(10_000, root.getExactSizeIfKnown());
+        Deque<Spliterator<Integer>> parts = new ArrayDeque<>(List.of(root));
+        List<Integer> values = new ArrayList<>();
+        int splits = 0;
+        while (!parts.isEmpty()) {
+            Spliterator<Integer> part = parts.pop();
+            Spliterator<Integer> prefix = part.trySplit();
+            if (prefix != null && splits++ < 64) {
+                assertFalse(part.hasCharacteristics(Spliterator.SIZED));
+                parts.push(prefix);
+                parts.push(part);
+            } else {
+                if (prefix != null) {
+                    prefix.forEachRemaining(values::add);
+                }
+                part.forEachRemaining(values::add);
+            }
+        }
+
+        assertTrue(splits > 8);
+        Collections.sort(values);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, values.get(i));
+        }
+    }
+}
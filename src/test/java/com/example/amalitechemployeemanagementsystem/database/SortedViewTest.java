@@ -0,0 +1,80 @@
+package com.example.amalitechemployeemanagementsystem.database;
+
+import com.example.amalitechemployeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedViewTest {
+    private final ChangeLog<Integer> changes = new ChangeLog<>();
+    private final AtomicLong version = new AtomicLong();
+    private List<Employee<Integer>> stored = new ArrayList<>();
+
+    private final SortedView<Integer> view = new SortedView<>(Comparator.comparingDouble(Employee::getSalary),
+            changes, version::get, () -> snapshotOf(stored));
+
+    @Test
+    void replayKeepsNewerVersionFromRebuildSnapshot() {
+        Employee<Integer> first = employee(1, 100);
+        Employee<Integer> other = employee(2, 150);
+        Employee<Integer> second = employee(1, 200);
+        Employee<Integer> third = employee(1, 300);
+        // The snapshot already holds two writes whose versions were not yet published
+        changes.record(1, first, second);
+        changes.record(2, second, third);
+        stored = List.of(third, other);
+
+        assertEquals(List.of(other, third), view.get());
+
+        version.set(1);
+        assertEquals(List.of(other, third), view.get());
+        version.set(2);
+        assertEquals(List.of(other, third), view.get());
+    }
+
+    @Test
+    void replayAppliesLaterWrites() {
+        Employee<Integer> first = employee(1, 100);
+        Employee<Integer> other = employee(2, 150);
+        stored = List.of(first, other);
+        assertEquals(List.of(first, other), view.get());
+
+        Employee<Integer> raised = employee(1, 200);
+        Employee<Integer> added = employee(3, 50);
+        changes.record(1, first, raised);
+        changes.record(2, null, added);
+        changes.record(3, other, null);
+        version.set(3);
+
+        assertEquals(List.of(added, raised), view.get());
+    }
+
+    private static Employee<Integer> employee(int id, double salary) {
+        return new Employee<>(id, "Employee " + id, "IT", salary, 4.0, 1, true);
+    }
+
+    private static EmployeeSnapshot<Integer> snapshotOf(List<Employee<Integer>> employees) {
+        return new EmployeeSnapshot<>() {
+            @Override
+            public int size() {
+                return employees.size();
+            }
+
+            @Override
+            public Employee<Integer> get(Integer employeeId) {
+                return employees.stream().filter(e -> e.employeeId().equals(employeeId)).findFirst().orElse(null);
+            }
+
+            @Override
+            public Iterator<Employee<Integer>> iterator() {
+                return employees.iterator();
+            }
+        };
+    }
+}
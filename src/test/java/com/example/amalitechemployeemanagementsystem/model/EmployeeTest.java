@@ -91,6 +91,16 @@ class EmployeeTest {
         assertFalse(employee.isActive());
     }
 
+    @Test
+    void copyConstructor() {
+        Employee<Integer> copy = new Employee<>(employee);
+        copy.setSalary(60000);
+
+        assertEquals(employee, copy);
+        assertEquals("John Doe", copy.getName());
+        assertEquals(50000, employee.getSalary());
+    }
+
     @Test
     void testCompareTo() {
         Employee<Integer> employee2 = new Employee<>(2, "Jane Doe", "HR", 60000, 4.8, 7, true);